@@ -0,0 +1,79 @@
+package com.red.api.admin;
+
+import com.red.api.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link AdminAuthService#isTokenValid} with several threads checking tokens at
+ * once, the way concurrent admin requests do, with an empty and a busy logout denylist. The
+ * revocation table is a stub that accepts writes and returns nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class AdminTokenValidationBenchmark {
+
+    private static final int TOKENS = 100;
+
+    @Param({"0", "1000"})
+    private int revokedTokens;
+
+    private AdminAuthService authService;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = AppProperties.builder()
+                .admin(new AppProperties.Admin("admin", "benchmark", 240, "benchmark-secret-benchmark-secret-0123", Duration.ofSeconds(15)))
+                .build();
+        AdminTokenRevocationRepository repository = (AdminTokenRevocationRepository) Proxy.newProxyInstance(
+                AdminTokenRevocationRepository.class.getClassLoader(),
+                new Class<?>[]{AdminTokenRevocationRepository.class},
+                (proxy, method, args) -> {
+                    if (!"save".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return args[0];
+                });
+        authService = new AdminAuthService(appProperties, new AdminTokenDenylist(repository, appProperties));
+
+        for (int i = 0; i < revokedTokens; i++) {
+            authService.invalidate(authService.authenticate("admin", "benchmark"));
+        }
+
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = authService.authenticate("admin", "benchmark");
+        }
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return authService.isTokenValid(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+
+    @Benchmark
+    public boolean forgedToken() {
+        return authService.isTokenValid("AAAAAAAAAAAAAAAAAAAAAA.4102444800.AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+}
@@ -0,0 +1,88 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.availability.AvailabilityController.AvailabilityResponse;
+import com.red.api.availability.AvailabilityController.BookingDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing the public availability list, at the size of one month, one term and one
+ * year of weekday slots. A third of the slots carry booking details, like a busy calendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilitySerializationBenchmark {
+
+    @Param({"20", "90", "260"})
+    private int slots;
+
+    private ObjectMapper objectMapper;
+    private List<AvailabilityResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // Matches the Spring Boot defaults the API serializes with.
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        responses = new ArrayList<>(slots);
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 13, 0);
+        for (int i = 0; i < slots; i++) {
+            LocalDateTime slotStart = start.plusDays(i);
+            boolean held = i % 3 == 0;
+            BookingDetails booking = held
+                    ? new BookingDetails(
+                            (long) i,
+                            "Teacher " + i,
+                            "teacher" + i + "@school.example",
+                            "403-555-0100",
+                            "Example School " + i,
+                            "Fentanyl awareness",
+                            "Room 101",
+                            "Two classes combined, please bring extra handouts.",
+                            "confirmed",
+                            slotStart.minusDays(14),
+                            "Slot " + i
+                    )
+                    : null;
+            responses.add(new AvailabilityResponse(
+                    (long) i,
+                    slotStart,
+                    slotStart.plusHours(1),
+                    "To be confirmed",
+                    35,
+                    held ? "booked" : "available",
+                    true,
+                    booking
+            ));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
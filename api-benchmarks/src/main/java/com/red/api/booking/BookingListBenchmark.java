@@ -0,0 +1,157 @@
+package com.red.api.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serving one 200-row admin bookings page from an in-memory H2 database, the old way
+ * (managed entities in a read-write transaction) and through {@link AdminBookingController#list}
+ * (record projections in a read-only transaction). Run with {@code -prof gc} to compare the bytes
+ * allocated per page as well as the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingListBenchmark {
+
+    private static final int BOOKINGS = 500;
+    private static final int PAGE_SIZE = 200;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private AdminBookingController controller;
+    private ObjectMapper objectMapper;
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = {Booking.class, Availability.class})
+    @EnableJpaRepositories(basePackageClasses = {BookingRepository.class, AvailabilityRepository.class})
+    static class JpaOnly {
+    }
+
+    @Setup
+    public void setUp() {
+        // Arguments, so they win over the API's own application-*.yml on the classpath.
+        context = new SpringApplicationBuilder(JpaOnly.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bookings;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--logging.level.root=warn");
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        AvailabilityRepository availabilityRepository = context.getBean(AvailabilityRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        controller = new AdminBookingController(bookingRepository, availabilityRepository, null, null, null);
+        // Matches the Spring Boot defaults the API serializes with.
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Availability slot = new Availability();
+        slot.setStart(LocalDateTime.of(2026, 3, 2, 9, 0));
+        slot.setEnd(slot.getStart().plusHours(1));
+        slot.setStatus("pending");
+        slot.setIsActive(true);
+        Availability saved = availabilityRepository.save(slot);
+
+        List<Booking> bookings = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(booking(saved, LocalDateTime.of(2025, 9, 1, 8, 0).plusMinutes(i)));
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] managedEntities() {
+        return readWrite.execute(status -> json(entityManager
+                .createQuery("select b from Booking b order by b.createdAt desc, b.id desc", Booking.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()));
+    }
+
+    @Benchmark
+    public byte[] projections() {
+        return readOnly.execute(status -> json(controller.list(null, null, null, null, null, PAGE_SIZE, false)));
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static Booking booking(Availability slot, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setName("Teacher");
+        booking.setEmail("teacher@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setExtraNotes("Two classes of grade 9 students, about 60 in total.");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Monday, March 2, 2026 9:00 AM - 10:00 AM");
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus("pending");
+        booking.setCreatedAt(createdAt);
+        return booking;
+    }
+}
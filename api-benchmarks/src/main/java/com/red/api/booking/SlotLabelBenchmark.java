@@ -0,0 +1,39 @@
+package com.red.api.booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the human-readable slot label written on every new booking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotLabelBenchmark {
+
+    private final LocalDateTime start = LocalDateTime.of(2025, 11, 12, 13, 0);
+    private final LocalDateTime end = start.plusHours(1);
+
+    @Benchmark
+    public String startAndEnd() {
+        return BookingController.buildSlotLabel(start, end);
+    }
+
+    @Benchmark
+    public String startOnly() {
+        return BookingController.buildSlotLabel(start, null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.red.api.notifications;
+
+import com.red.api.booking.Booking;
+import com.red.api.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering each booking email (text and HTML) in {@link EmailService}. The outbox
+ * repository is a stub that hands the rendered message to a {@link Blackhole}, so only rendering is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private EmailService emailService;
+    private Booking booking;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+
+        EmailOutboxRepository outboxRepository = (EmailOutboxRepository) Proxy.newProxyInstance(
+                EmailOutboxRepository.class.getClassLoader(),
+                new Class<?>[]{EmailOutboxRepository.class},
+                (proxy, method, args) -> {
+                    if (!"save".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    this.blackhole.consume(args[0]);
+                    return args[0];
+                });
+
+        AppProperties appProperties = appProperties();
+        emailService = new EmailService(outboxRepository, event -> { }, appProperties, new EmailTemplates(appProperties));
+
+        booking = new Booking();
+        booking.setId(42L);
+        booking.setName("Jordan Teacher");
+        booking.setEmail("jordan.teacher@school.example");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example High School");
+        booking.setPresentationType("Fentanyl awareness");
+        booking.setLocation("Gymnasium");
+        booking.setSlotId(7L);
+        booking.setSlotLabel("Wednesday, November 12 at 1:00 p.m. – Wednesday, November 12 at 2:00 p.m.");
+        booking.setPresentationStart(LocalDateTime.of(2025, 11, 12, 13, 0));
+        booking.setPresentationEnd(LocalDateTime.of(2025, 11, 12, 14, 0));
+        booking.setStatus("pending");
+        booking.setCancellationToken(UUID.randomUUID().toString());
+        booking.setCreatedAt(LocalDateTime.of(2025, 10, 1, 9, 30));
+    }
+
+    @Benchmark
+    public void pending() {
+        emailService.sendBookingPendingEmail(booking);
+    }
+
+    @Benchmark
+    public void confirmed() {
+        emailService.sendBookingConfirmedEmail(booking);
+    }
+
+    @Benchmark
+    public void rejected() {
+        emailService.sendBookingRejectedEmail(booking);
+    }
+
+    @Benchmark
+    public void cancelled() {
+        emailService.sendBookingCancelledEmail(booking);
+    }
+
+    private static AppProperties appProperties() {
+        return AppProperties.builder()
+                .frontendBaseUrl("https://red.example")
+                .mailFromAddress("bookings@red.example")
+                .availability(new AppProperties.AvailabilityOptions(Duration.ofSeconds(60), 42, 93, 500))
+                .build();
+    }
+}
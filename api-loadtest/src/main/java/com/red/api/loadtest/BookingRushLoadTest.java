@@ -0,0 +1,205 @@
+package com.red.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.red.api.ApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots the API in this JVM against an in-memory H2 database in PostgreSQL mode and a GreenMail
+ * SMTP server, opens a handful of hot slots, and lets {@code --users} teachers on virtual threads
+ * browse, book and cancel for {@code --duration}. Prints a summary and writes the
+ * {@link LoadTestReport} as JSON to {@code --report}.
+ *
+ * <p>The API and the driver share the machine, so the numbers are for comparing commits on the
+ * same runner, not for sizing production. Exits with status 1 if the error rate is above
+ * {@code --max-error-rate}, so CI can fail the build on it.
+ */
+public final class BookingRushLoadTest {
+
+    private static final String ADMIN_USERNAME = "loadtest";
+    private static final int SLOTS_PER_DAY = 8;
+
+    private BookingRushLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+
+        GreenMail mail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        mail.setUser("loadtest@localhost", "loadtest", "loadtest");
+        mail.start();
+        String adminPassword = UUID.randomUUID().toString();
+        ConfigurableApplicationContext api = SpringApplication.run(ApiApplication.class, apiArguments(mail, adminPassword));
+
+        LoadTestReport report;
+        try {
+            URI baseUri = URI.create("http://localhost:" + api.getEnvironment().getProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            LocalDate firstDay = LocalDate.now().plusDays(7);
+            List<Long> hotSlotIds = openHotSlots(client, objectMapper, baseUri, adminPassword, firstDay, options.hotSlots());
+            LocalDate lastDay = firstDay.plusDays((options.hotSlots() - 1) / SLOTS_PER_DAY);
+            String availabilityQuery = "from=" + firstDay + "&to=" + lastDay;
+
+            report = run(options, client, objectMapper, baseUri, availabilityQuery, hotSlotIds);
+        } finally {
+            api.close();
+            mail.stop();
+        }
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(options.report().toFile(), report);
+        print(report, options);
+
+        if (report.total().errorRate() > options.maxErrorRate()) {
+            System.err.printf("Error rate %.4f is above --max-error-rate %.4f%n",
+                    report.total().errorRate(), options.maxErrorRate());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Dev profile settings with the database and mail server swapped for the in-process stand-ins,
+     * random ports, and a throwaway admin login. Rate limiting is off because every simulated
+     * teacher shares the loopback address.
+     */
+    private static String[] apiArguments(GreenMail mail, String adminPassword) {
+        return new String[]{
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--server.port=0",
+                "--management.server.port=-1",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;IGNORE_UNKNOWN_SETTINGS=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.mail.host=localhost",
+                "--spring.mail.port=" + mail.getSmtp().getPort(),
+                "--spring.mail.username=loadtest",
+                "--spring.mail.password=loadtest",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--spring.mail.properties.mail.smtp.starttls.required=false",
+                "--app.admin.username=" + ADMIN_USERNAME,
+                "--app.admin.password=" + adminPassword,
+                "--app.replica.url=",
+                "--app.rate-limit.enabled=false"
+        };
+    }
+
+    /**
+     * Creates {@code count} one-hour slots starting on {@code firstDay}, {@value #SLOTS_PER_DAY} a
+     * day, through the admin API.
+     */
+    private static List<Long> openHotSlots(HttpClient client, ObjectMapper objectMapper, URI baseUri,
+                                           String adminPassword, LocalDate firstDay, int count) throws Exception {
+        String token = objectMapper.readTree(post(client, baseUri.resolve("/admin/auth/login"), null,
+                objectMapper.writeValueAsString(Map.of("username", ADMIN_USERNAME, "password", adminPassword))))
+                .path("token").asText();
+
+        List<Long> slotIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = LocalDateTime.of(firstDay.plusDays(i / SLOTS_PER_DAY), LocalTime.of(8 + i % SLOTS_PER_DAY, 0));
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "start", start.toString(),
+                    "end", start.plusHours(1).toString(),
+                    "location", "Hot slot " + (i + 1),
+                    "capacity", 30));
+            slotIds.add(objectMapper.readTree(post(client, baseUri.resolve("/admin/availability"), token, body))
+                    .path("id").asLong());
+        }
+        return List.copyOf(slotIds);
+    }
+
+    private static LoadTestReport run(LoadTestOptions options, HttpClient client, ObjectMapper objectMapper, URI baseUri,
+                                      String availabilityQuery, List<Long> hotSlotIds) throws Exception {
+        Instant startedAt = Instant.now();
+        long began = System.nanoTime();
+        long measureFrom = began + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+
+        List<TeacherSession> sessions = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            sessions.add(new TeacherSession(
+                    i, client, objectMapper, baseUri, availabilityQuery, hotSlotIds, options, measureFrom, deadline));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (TeacherSession session : sessions) {
+                running.add(executor.submit(session));
+            }
+            for (Future<?> session : running) {
+                session.get();
+            }
+        }
+        Duration measured = Duration.ofNanos(Math.max(1, System.nanoTime() - measureFrom));
+
+        LatencyLog log = new LatencyLog();
+        sessions.forEach(session -> log.addAll(session.log()));
+        return LoadTestReport.of(startedAt, options, log, measured);
+    }
+
+    private static String post(HttpClient client, URI uri, String adminToken, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (adminToken != null) {
+            request.header("X-Admin-Token", adminToken);
+        }
+
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("POST " + uri.getPath() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static void print(LoadTestReport report, LoadTestOptions options) {
+        System.out.printf("%nBooking rush: %d users for %ds after %ds warmup, %d hot slots%n",
+                options.users(), options.duration().toSeconds(), options.warmup().toSeconds(), options.hotSlots());
+        System.out.printf("%-40s %9s %9s %9s %8s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "conflicts", "errors", "p50 ms", "p99 ms", "max ms");
+        List<LoadTestReport.Summary> rows = new ArrayList<>(report.operations());
+        rows.add(report.total());
+        for (LoadTestReport.Summary row : rows) {
+            System.out.printf("%-40s %9d %9.1f %9d %8d %9.2f %9.2f %9.2f%n",
+                    row.operation(), row.requests(), row.throughputPerSecond(), row.conflicts(), row.errors(),
+                    row.latencyMillis().p50(), row.latencyMillis().p99(), row.latencyMillis().max());
+        }
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+}
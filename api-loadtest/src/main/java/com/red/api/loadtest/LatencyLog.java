@@ -0,0 +1,117 @@
+package com.red.api.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencies and outcomes per {@link Operation}. Each session keeps its own log so recording never
+ * contends; the logs are merged once the run is over.
+ */
+final class LatencyLog {
+
+    enum Operation {
+        BROWSE("GET /availability"),
+        BOOK("POST /bookings"),
+        VIEW_CANCELLATION("GET /bookings/cancellations/{token}"),
+        CANCEL("POST /bookings/cancellations/{token}");
+
+        final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * {@code CONFLICT} is a 409 the API is expected to return under contention, such as two teachers
+     * racing for one slot. It is reported separately and does not count as an error.
+     */
+    enum Outcome {
+        OK,
+        CONFLICT,
+        ERROR
+    }
+
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    void record(Operation operation, Outcome outcome, long nanos) {
+        samples.computeIfAbsent(operation, ignored -> new Samples()).add(outcome, nanos);
+    }
+
+    void addAll(LatencyLog other) {
+        other.samples.forEach((operation, theirs) ->
+                samples.computeIfAbsent(operation, ignored -> new Samples()).addAll(theirs));
+    }
+
+    Samples samples(Operation operation) {
+        return samples.getOrDefault(operation, new Samples());
+    }
+
+    Samples total() {
+        Samples total = new Samples();
+        samples.values().forEach(total::addAll);
+        return total;
+    }
+
+    static final class Samples {
+        private long[] nanos = new long[256];
+        private int count;
+        private long conflicts;
+        private long errors;
+
+        private void add(Outcome outcome, long latency) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (outcome == Outcome.CONFLICT) {
+                conflicts++;
+            } else if (outcome == Outcome.ERROR) {
+                errors++;
+            }
+        }
+
+        private void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            conflicts += other.conflicts;
+            errors += other.errors;
+        }
+
+        long requests() {
+            return count;
+        }
+
+        long conflicts() {
+            return conflicts;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * Sorted copy of the recorded latencies, for {@link #percentile}.
+         */
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        /**
+         * Nearest-rank percentile of an array from {@link #sorted()}, in nanoseconds.
+         */
+        static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.red.api.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line settings for {@link BookingRushLoadTest}, given as {@code --name=value}. Durations
+ * accept the same forms as the API's configuration, e.g. {@code 30s} or {@code 2m}.
+ */
+record LoadTestOptions(
+        int users,
+        Duration duration,
+        Duration warmup,
+        int hotSlots,
+        Duration thinkTime,
+        Map<TeacherSession.Action, Integer> mix,
+        Path report,
+        double maxErrorRate
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        int users = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        int hotSlots = 20;
+        Duration thinkTime = Duration.ofMillis(250);
+        Map<TeacherSession.Action, Integer> mix = parseMix("browse:70,book:20,cancel:10");
+        Path report = Path.of("api-loadtest", "target", "loadtest", "booking-rush.json");
+        double maxErrorRate = 0.01;
+
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, equals);
+            String value = arg.substring(equals + 1);
+            switch (name) {
+                case "users" -> users = positive(name, Integer.parseInt(value));
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "hot-slots" -> hotSlots = positive(name, Integer.parseInt(value));
+                case "think-time" -> thinkTime = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = parseMix(value);
+                case "report" -> report = Path.of(value);
+                case "max-error-rate" -> maxErrorRate = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("--duration must be positive");
+        }
+        return new LoadTestOptions(users, duration, warmup, hotSlots, thinkTime, mix, report, maxErrorRate);
+    }
+
+    /**
+     * Relative weights such as {@code browse:70,book:20,cancel:10}. Actions left out are never
+     * picked.
+     */
+    private static Map<TeacherSession.Action, Integer> parseMix(String value) {
+        Map<TeacherSession.Action, Integer> mix = new EnumMap<>(TeacherSession.Action.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Expected action:weight in --mix but got " + part);
+            }
+            int parsed = Integer.parseInt(weight[1].trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException("--mix weights cannot be negative");
+            }
+            mix.put(TeacherSession.Action.valueOf(weight[0].trim().toUpperCase()), parsed);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+}
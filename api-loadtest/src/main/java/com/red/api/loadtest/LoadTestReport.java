@@ -0,0 +1,98 @@
+package com.red.api.loadtest;
+
+import com.red.api.loadtest.LatencyLog.Operation;
+import com.red.api.loadtest.LatencyLog.Samples;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a run, written as JSON so CI can keep it as an artifact and compare runs. Latencies
+ * and rates only cover the measured window, after warmup.
+ */
+record LoadTestReport(
+        String scenario,
+        Instant startedAt,
+        Settings settings,
+        Summary total,
+        List<Summary> operations,
+        Map<String, String> environment
+) {
+
+    record Settings(
+            int users,
+            long durationSeconds,
+            long warmupSeconds,
+            int hotSlots,
+            long thinkTimeMillis,
+            Map<TeacherSession.Action, Integer> mix
+    ) {}
+
+    record Summary(
+            String operation,
+            long requests,
+            double throughputPerSecond,
+            long conflicts,
+            long errors,
+            double errorRate,
+            Latency latencyMillis
+    ) {}
+
+    record Latency(double p50, double p90, double p99, double max) {}
+
+    static LoadTestReport of(Instant startedAt, LoadTestOptions options, LatencyLog log, Duration measured) {
+        List<Summary> operations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Samples samples = log.samples(operation);
+            if (samples.requests() > 0) {
+                operations.add(summarize(operation.label, samples, measured));
+            }
+        }
+
+        return new LoadTestReport(
+                "booking-rush",
+                startedAt,
+                new Settings(
+                        options.users(),
+                        options.duration().toSeconds(),
+                        options.warmup().toSeconds(),
+                        options.hotSlots(),
+                        options.thinkTime().toMillis(),
+                        options.mix()),
+                summarize("all", log.total(), measured),
+                operations,
+                Map.of(
+                        "java", Runtime.version().toString(),
+                        "os", System.getProperty("os.name") + " " + System.getProperty("os.arch"),
+                        "processors", String.valueOf(Runtime.getRuntime().availableProcessors()),
+                        "database", "h2 (PostgreSQL mode)"));
+    }
+
+    private static Summary summarize(String operation, Samples samples, Duration measured) {
+        long[] sorted = samples.sorted();
+        double seconds = measured.toNanos() / 1e9;
+        return new Summary(
+                operation,
+                samples.requests(),
+                round(samples.requests() / seconds),
+                samples.conflicts(),
+                samples.errors(),
+                samples.requests() == 0 ? 0 : round((double) samples.errors() / samples.requests()),
+                new Latency(
+                        millis(Samples.percentile(sorted, 50)),
+                        millis(Samples.percentile(sorted, 90)),
+                        millis(Samples.percentile(sorted, 99)),
+                        millis(Samples.percentile(sorted, 100))));
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,226 @@
+package com.red.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.api.loadtest.LatencyLog.Operation;
+import com.red.api.loadtest.LatencyLog.Outcome;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One teacher on the booking page during a rush: mostly refreshing the calendar, sometimes trying
+ * to book one of the open hot slots it last saw, and sometimes cancelling a booking it made
+ * earlier through the emailed link. Runs on its own virtual thread until the deadline.
+ */
+final class TeacherSession implements Runnable {
+
+    enum Action {
+        BROWSE,
+        BOOK,
+        CANCEL
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final int id;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final String availabilityQuery;
+    private final List<Long> hotSlotIds;
+    private final Map<Action, Integer> mix;
+    private final Duration thinkTime;
+    private final long measureFromNanos;
+    private final long deadlineNanos;
+    private final LatencyLog log = new LatencyLog();
+
+    private final Deque<String> cancellationTokens = new ArrayDeque<>();
+    private List<Long> openSlotIds = List.of();
+    private String etag;
+    private int bookings;
+
+    TeacherSession(int id, HttpClient client, ObjectMapper objectMapper, URI baseUri, String availabilityQuery,
+                   List<Long> hotSlotIds, LoadTestOptions options, long measureFromNanos, long deadlineNanos) {
+        this.id = id;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.availabilityQuery = availabilityQuery;
+        this.hotSlotIds = hotSlotIds;
+        this.mix = options.mix();
+        this.thinkTime = options.thinkTime();
+        this.measureFromNanos = measureFromNanos;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    LatencyLog log() {
+        return log;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos) {
+            switch (pick()) {
+                case BROWSE -> browse();
+                case BOOK -> book();
+                case CANCEL -> cancel();
+            }
+            if (!think()) {
+                return;
+            }
+        }
+    }
+
+    private void browse() {
+        HttpRequest.Builder request = request("/availability?" + availabilityQuery).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        HttpResponse<String> response = send(Operation.BROWSE, request.build(), Set.of(200, 304), Set.of());
+        if (response == null || response.statusCode() != 200) {
+            return;
+        }
+
+        etag = response.headers().firstValue("ETag").orElse(null);
+        List<Long> open = new ArrayList<>();
+        for (JsonNode slot : readTree(response.body())) {
+            long slotId = slot.path("id").asLong();
+            if ("available".equals(slot.path("status").asText()) && hotSlotIds.contains(slotId)) {
+                open.add(slotId);
+            }
+        }
+        openSlotIds = open;
+    }
+
+    /**
+     * Books one of the slots the last refresh showed as open, or any hot slot when the teacher has
+     * not looked yet or saw none, which is what a stale tab does.
+     */
+    private void book() {
+        List<Long> candidates = openSlotIds.isEmpty() ? hotSlotIds : openSlotIds;
+        long slotId = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        int attempt = ++bookings;
+
+        String body = json(Map.of(
+                "name", "Load Teacher " + id,
+                "email", "teacher" + id + "-" + attempt + "@loadtest.example.com",
+                "phone", "403-555-0100",
+                "school", "Load Test School " + (id % 50),
+                "presentationType", "Fentanyl",
+                "location", "Room " + (100 + id % 30),
+                "extraNotes", "Booking-rush load test, attempt " + attempt,
+                "slotId", slotId));
+        HttpRequest request = request("/bookings")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = send(Operation.BOOK, request, Set.of(201), Set.of(409));
+        if (response != null && response.statusCode() == 201) {
+            cancellationTokens.add(readTree(response.body()).path("cancellationToken").asText());
+        }
+    }
+
+    /**
+     * Opens the cancellation link for the oldest booking this teacher holds and confirms it, which
+     * frees the slot for everyone else. Teachers without a booking refresh instead.
+     */
+    private void cancel() {
+        String token = cancellationTokens.poll();
+        if (token == null) {
+            browse();
+            return;
+        }
+
+        String path = "/bookings/cancellations/" + token;
+        HttpResponse<String> viewed = send(Operation.VIEW_CANCELLATION, request(path).GET().build(), Set.of(200), Set.of());
+        if (viewed == null || viewed.statusCode() != 200) {
+            return;
+        }
+        // An admin rejection between booking and cancelling is the only expected conflict.
+        send(Operation.CANCEL, request(path).POST(HttpRequest.BodyPublishers.noBody()).build(), Set.of(200), Set.of(409));
+    }
+
+    private HttpResponse<String> send(Operation operation, HttpRequest request, Set<Integer> ok, Set<Integer> conflict) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        Outcome outcome;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            outcome = ok.contains(status) ? Outcome.OK : conflict.contains(status) ? Outcome.CONFLICT : Outcome.ERROR;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception exception) {
+            outcome = Outcome.ERROR;
+        }
+
+        if (started >= measureFromNanos) {
+            log.record(operation, outcome, System.nanoTime() - started);
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private Action pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Action, Integer> weight : mix.entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                return weight.getKey();
+            }
+        }
+        return Action.BROWSE;
+    }
+
+    /**
+     * Pauses for a random time averaging {@code thinkTime}. Returns false if the run is being
+     * stopped.
+     */
+    private boolean think() {
+        long mean = thinkTime.toMillis();
+        if (mean <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(2 * mean + 1));
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception exception) {
+            throw new IllegalStateException("Unexpected response body: " + body, exception);
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
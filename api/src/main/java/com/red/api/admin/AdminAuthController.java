@@ -28,6 +28,8 @@ public class AdminAuthController {
 
     record LoginResponse(String token, long expiresInMinutes) {}
 
+    record StreamTicketResponse(String ticket, long expiresInSeconds) {}
+
     @PostMapping("/login")
     public LoginResponse login(@Valid @RequestBody LoginRequest request) {
         String token = authService.authenticate(request.username(), request.password());
@@ -41,6 +43,19 @@ public class AdminAuthController {
         return new LoginResponse(token, ttl);
     }
 
+    /**
+     * Exchanges the admin token for a short-lived ticket that only opens event streams, since
+     * EventSource cannot send the admin header and the token must not end up in a URL.
+     */
+    @PostMapping("/stream-ticket")
+    public StreamTicketResponse streamTicket(@RequestHeader(name = "X-Admin-Token", required = false) String token) {
+        String ticket = authService.issueStreamTicket(token);
+        if (ticket == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired admin session");
+        }
+        return new StreamTicketResponse(ticket, AdminAuthService.STREAM_TICKET_TTL.toSeconds());
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@RequestHeader(name = "X-Admin-Token", required = false) String token) {
         if (token == null || token.isBlank()) {
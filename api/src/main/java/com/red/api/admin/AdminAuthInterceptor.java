@@ -26,6 +26,13 @@ public class AdminAuthInterceptor implements HandlerInterceptor {
         }
 
         String token = request.getHeader("X-Admin-Token");
+        if (token == null && path.endsWith("/stream")) {
+            // EventSource cannot send headers, so event streams take a stream ticket from
+            // POST /admin/auth/stream-ticket as a query parameter instead of the admin token.
+            if (authService.isStreamTicketValid(request.getParameter("ticket"))) {
+                return true;
+            }
+        }
         if (!authService.isTokenValid(token)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired admin session");
         }
@@ -1,23 +1,55 @@
 package com.red.api.admin;
 
 import com.red.api.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Base64;
 
+/**
+ * Issues and verifies stateless admin tokens of the form {@code <id>.<expiresAt>.<signature>},
+ * where the signature is an HMAC-SHA256 over the id and expiry keyed with
+ * {@code app.admin.token-secret}. Any instance sharing the secret can verify a token without a
+ * session store; logout adds the token id to {@link AdminTokenDenylist} until it expires.
+ *
+ * <p>Event streams cannot send the admin header, so the admin exchanges its token for a stream
+ * ticket of the form {@code s.<id>.<expiresAt>.<signature>} that is only accepted on
+ * {@code /stream} URLs and expires after {@link #STREAM_TICKET_TTL}. The ticket carries the token's
+ * id, so logging out revokes it too. The real token never goes in a URL.
+ */
 @Service
 public class AdminAuthService {
 
-    private final Map<String, Instant> activeSessions = new ConcurrentHashMap<>();
+    public static final Duration STREAM_TICKET_TTL = Duration.ofSeconds(60);
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAuthService.class);
+    private static final String STREAM_TICKET_PREFIX = "s.";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
     private final AppProperties appProperties;
+    private final AdminTokenDenylist denylist;
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+    private final SecureRandom random = new SecureRandom();
 
-    public AdminAuthService(AppProperties appProperties) {
+    public AdminAuthService(AppProperties appProperties, AdminTokenDenylist denylist) {
         this.appProperties = appProperties;
+        this.denylist = denylist;
+        this.signingKey = new SecretKeySpec(secret(appProperties.admin()), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
     }
 
     public String authenticate(String username, String password) {
@@ -34,34 +66,124 @@ public class AdminAuthService {
             return null;
         }
 
-        String token = UUID.randomUUID().toString();
-        long ttlMinutes = Optional.ofNullable(adminConfig.sessionTtlMinutes()).orElse(240L);
-        Instant expiry = Instant.now().plus(ttlMinutes, ChronoUnit.MINUTES);
-        activeSessions.put(token, expiry);
-        return token;
+        byte[] id = new byte[16];
+        random.nextBytes(id);
+        long ttlMinutes = adminConfig.sessionTtlMinutes() > 0 ? adminConfig.sessionTtlMinutes() : 240L;
+        long expiresAt = Instant.now().plus(ttlMinutes, ChronoUnit.MINUTES).getEpochSecond();
+
+        String payload = ENCODER.encodeToString(id) + "." + expiresAt;
+        return payload + "." + ENCODER.encodeToString(sign(payload));
     }
 
     public boolean isTokenValid(String token) {
+        return parse(token) != null;
+    }
+
+    /**
+     * Issues a stream ticket for a valid admin token, or returns {@code null} if the token is not
+     * valid. The ticket never outlives the token.
+     */
+    public String issueStreamTicket(String token) {
+        ParsedToken parsed = parse(token);
+        if (parsed == null) {
+            return null;
+        }
+
+        Instant expiry = Instant.now().plus(STREAM_TICKET_TTL);
+        if (expiry.isAfter(parsed.expiresAt())) {
+            expiry = parsed.expiresAt();
+        }
+        String payload = STREAM_TICKET_PREFIX + parsed.id() + "." + expiry.getEpochSecond();
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    public boolean isStreamTicketValid(String ticket) {
+        return ticket != null && ticket.startsWith(STREAM_TICKET_PREFIX)
+                && verify(ticket, STREAM_TICKET_PREFIX.length()) != null;
+    }
+
+    public void invalidate(String token) {
+        ParsedToken parsed = parse(token);
+        if (parsed != null) {
+            denylist.revoke(parsed.id(), parsed.expiresAt());
+        }
+    }
+
+    private ParsedToken parse(String token) {
         if (token == null || token.isBlank()) {
-            return false;
+            return null;
         }
+        return verify(token, 0);
+    }
 
-        Instant expiry = activeSessions.get(token);
-        if (expiry == null) {
-            return false;
+    /**
+     * Checks a signed {@code <id>.<expiresAt>.<signature>} that starts at {@code offset}; the
+     * signature covers everything before its dot, including any prefix.
+     */
+    private ParsedToken verify(String token, int offset) {
+        int firstDot = token.indexOf('.', offset);
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= offset || lastDot <= firstDot || lastDot == token.length() - 1) {
+            return null;
         }
 
-        if (expiry.isBefore(Instant.now())) {
-            activeSessions.remove(token);
-            return false;
+        String payload = token.substring(0, lastDot);
+        byte[] signature;
+        long expiresAt;
+        try {
+            signature = DECODER.decode(token.substring(lastDot + 1));
+            expiresAt = Long.parseLong(token, firstDot + 1, lastDot, 10);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+
+        if (!MessageDigest.isEqual(signature, sign(payload))) {
+            return null;
+        }
+
+        Instant expiry = Instant.ofEpochSecond(expiresAt);
+        if (!expiry.isAfter(Instant.now())) {
+            return null;
         }
 
-        return true;
+        String id = token.substring(offset, firstDot);
+        if (denylist.isRevoked(id)) {
+            return null;
+        }
+        return new ParsedToken(id, expiry);
     }
 
-    public void invalidate(String token) {
-        if (token != null) {
-            activeSessions.remove(token);
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", exception);
+        }
+    }
+
+    private static byte[] secret(AppProperties.Admin adminConfig) {
+        String configured = adminConfig == null ? null : adminConfig.tokenSecret();
+        if (configured == null || configured.isBlank()) {
+            log.warn("app.admin.token-secret is not set; using a random key, so admin tokens will not survive "
+                    + "a restart or work across instances");
+            byte[] generated = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(generated);
+            return generated;
         }
+
+        byte[] secret = configured.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.admin.token-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return secret;
+    }
+
+    private record ParsedToken(String id, Instant expiresAt) {
     }
 }
@@ -0,0 +1,103 @@
+package com.red.api.admin;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ids of admin tokens revoked by logout before they expired. Lookups hit a local map; the shared
+ * {@code admin_token_revocation} table is re-read every {@code revocationRefreshInterval} so a
+ * logout on one instance reaches the others within that interval. Entries are dropped once the
+ * token would have expired anyway, so the list only ever holds recently logged-out tokens.
+ */
+@Component
+public class AdminTokenDenylist implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminTokenDenylist.class);
+
+    private final AdminTokenRevocationRepository repository;
+    private final Duration refreshInterval;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    public AdminTokenDenylist(AdminTokenRevocationRepository repository, AppProperties appProperties) {
+        this.repository = repository;
+        Duration interval = appProperties.admin() == null ? null : appProperties.admin().revocationRefreshInterval();
+        this.refreshInterval = interval == null ? Duration.ofSeconds(15) : interval;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("admin-revocations").daemon().factory());
+    }
+
+    @PostConstruct
+    void start() {
+        long refreshMillis = Math.max(1000, refreshInterval.toMillis());
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        Instant expiresAt = revoked.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt.isBefore(Instant.now())) {
+            revoked.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        repository.save(new AdminTokenRevocation(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC)));
+    }
+
+    /**
+     * Pulls revocations made on other instances and purges expired ones, locally and in the table.
+     */
+    void refresh() {
+        Instant now = Instant.now();
+        LocalDateTime nowUtc = LocalDateTime.ofInstant(now, ZoneOffset.UTC);
+
+        repository.deleteExpired(nowUtc);
+        for (AdminTokenRevocation revocation : repository.findByExpiresAtAfter(nowUtc)) {
+            revoked.putIfAbsent(revocation.getTokenId(), revocation.getExpiresAt().toInstant(ZoneOffset.UTC));
+        }
+        revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException exception) {
+            log.warn("Unable to refresh admin token revocations: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("admin.tokens.revoked", revoked, Map::size)
+                .description("Logged-out admin tokens held in the local denylist until they expire")
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.red.api.admin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A logged-out admin token, kept until the token would have expired anyway.
+ */
+@Entity
+@Table(name = "admin_token_revocation")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminTokenRevocation {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public AdminTokenRevocation(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
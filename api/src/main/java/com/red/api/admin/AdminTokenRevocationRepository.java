@@ -0,0 +1,20 @@
+package com.red.api.admin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AdminTokenRevocationRepository extends JpaRepository<AdminTokenRevocation, String> {
+
+    List<AdminTokenRevocation> findByExpiresAtAfter(LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from AdminTokenRevocation r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
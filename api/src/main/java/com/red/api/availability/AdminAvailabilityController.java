@@ -1,9 +1,15 @@
 package com.red.api.availability;
 
+import com.red.api.booking.Booking;
 import com.red.api.booking.BookingRepository;
+import com.red.api.booking.BookingStatusChangedEvent;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.datasource.ReplicaRead;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,17 +22,31 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/admin/availability")
 @RequiredArgsConstructor
 public class AdminAvailabilityController {
 
+    static final int MAX_RANGE_DAYS = 366;
+    static final int MAX_GENERATED_SLOTS = 2000;
+
     private final AvailabilityRepository availabilityRepository;
     private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
 
     record CreateAvailabilityRequest(
             @NotNull LocalDateTime start,
@@ -44,9 +64,31 @@ public class AdminAvailabilityController {
             Boolean isActive
     ) {}
 
+    record RecurrenceRequest(
+            @NotNull LocalDate from,
+            @NotNull LocalDate to,
+            @NotEmpty Set<DayOfWeek> daysOfWeek,
+            @NotNull LocalTime startTime,
+            @NotNull LocalTime endTime,
+            Set<LocalDate> excludedDates,
+            String location,
+            Integer capacity
+    ) {}
+
+    record DateRangeRequest(
+            @NotNull LocalDate from,
+            @NotNull LocalDate to
+    ) {}
+
+    record RecurrenceResult(int created, int skipped) {}
+
+    record DisableRangeResult(int disabled, int cancelledBookings) {}
+
     @GetMapping
-    public List<Availability> list() {
-        return availabilityRepository.findAll();
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<AvailabilitySummary> list() {
+        return availabilityRepository.findAllSummaries();
     }
 
     @PostMapping
@@ -69,8 +111,11 @@ public class AdminAvailabilityController {
         availability.setCapacity(request.capacity());
         availability.setStatus("available");
         availability.setIsActive(true);
+        availability.setChangeSeq(changeSequence.next());
 
-        return availabilityRepository.save(availability);
+        Availability saved = availabilityRepository.save(availability);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.of(saved.getId()));
+        return saved;
     }
 
     @PatchMapping("/{id}")
@@ -104,7 +149,10 @@ public class AdminAvailabilityController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time must be after start time");
         }
 
-        return availabilityRepository.save(availability);
+        Availability saved = availabilityRepository.save(availability);
+        saved.setChangeSeq(changeSequence.next());
+        eventPublisher.publishEvent(AvailabilityChangedEvent.of(saved.getId()));
+        return saved;
     }
 
     @DeleteMapping("/{id}")
@@ -117,12 +165,124 @@ public class AdminAvailabilityController {
         availability.setStatus("available");
         availabilityRepository.save(availability);
 
-        bookingRepository.findTopBySlotIdOrderByCreatedAtDesc(String.valueOf(availability.getId()))
-                .ifPresent(booking -> {
-                    if (!"cancelled".equalsIgnoreCase(booking.getStatus()) && !"rejected".equalsIgnoreCase(booking.getStatus())) {
-                        booking.setStatus("cancelled");
-                        bookingRepository.save(booking);
-                    }
-                });
+        Optional<Booking> cancelled = bookingRepository.findTopBySlotIdOrderByCreatedAtDesc(availability.getId())
+                .filter(booking -> !"cancelled".equalsIgnoreCase(booking.getStatus())
+                        && !"rejected".equalsIgnoreCase(booking.getStatus()));
+        cancelled.ifPresent(booking -> {
+            String previousStatus = booking.getStatus();
+            booking.setStatus("cancelled");
+            bookingRepository.save(booking);
+            eventPublisher.publishEvent(
+                    new BookingStatusChangedEvent(booking.getId(), previousStatus, booking.getStatus()));
+        });
+
+        long changeSeq = changeSequence.next();
+        availability.setChangeSeq(changeSeq);
+        cancelled.ifPresent(booking -> booking.setChangeSeq(changeSeq));
+
+        eventPublisher.publishEvent(AvailabilityChangedEvent.of(availability.getId()));
+    }
+
+    /**
+     * Creates a slot from {@code startTime} to {@code endTime} on each of {@code daysOfWeek} between
+     * {@code from} and {@code to} (inclusive), except {@code excludedDates}. Days that already have an
+     * active slot at that time are skipped. All rows go in one transaction as batched inserts.
+     */
+    @PostMapping("/recurrence")
+    @Transactional
+    public RecurrenceResult createRecurring(@Valid @RequestBody RecurrenceRequest request) {
+        checkRange(request.from(), request.to());
+        if (!request.endTime().isAfter(request.startTime())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time must be after start time");
+        }
+
+        Set<LocalDate> excluded = request.excludedDates() == null ? Set.of() : request.excludedDates();
+        Set<LocalDateTime> existingStarts = new HashSet<>(availabilityRepository.findActiveStartsBetween(
+                request.from().atStartOfDay(), request.to().plusDays(1).atStartOfDay()));
+        String location = request.location() == null || request.location().isBlank()
+                ? "To be confirmed"
+                : request.location();
+
+        List<Availability> slots = new ArrayList<>();
+        int skipped = 0;
+        for (LocalDate day = request.from(); !day.isAfter(request.to()); day = day.plusDays(1)) {
+            if (!request.daysOfWeek().contains(day.getDayOfWeek()) || excluded.contains(day)) {
+                continue;
+            }
+            LocalDateTime start = day.atTime(request.startTime());
+            if (existingStarts.contains(start)) {
+                skipped++;
+                continue;
+            }
+            if (slots.size() == MAX_GENERATED_SLOTS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "A recurrence must not create more than " + MAX_GENERATED_SLOTS + " slots");
+            }
+
+            Availability availability = new Availability();
+            availability.setStart(start);
+            availability.setEnd(day.atTime(request.endTime()));
+            availability.setLocation(location);
+            availability.setCapacity(request.capacity());
+            availability.setStatus("available");
+            availability.setIsActive(true);
+            slots.add(availability);
+        }
+
+        if (!slots.isEmpty()) {
+            long changeSeq = changeSequence.next();
+            slots.forEach(slot -> slot.setChangeSeq(changeSeq));
+        }
+        List<Availability> saved = availabilityRepository.saveAll(slots);
+        if (!saved.isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>();
+            saved.forEach(slot -> ids.add(slot.getId()));
+            eventPublisher.publishEvent(new AvailabilityChangedEvent(ids));
+        }
+        return new RecurrenceResult(saved.size(), skipped);
+    }
+
+    /**
+     * Disables every active slot starting between {@code from} and {@code to} (inclusive) and
+     * cancels the bookings that held them, using one update statement for each table and one more
+     * for each to stamp the change sequence.
+     */
+    @PostMapping("/disable-range")
+    @Transactional
+    public DisableRangeResult disableRange(@Valid @RequestBody DateRangeRequest request) {
+        checkRange(request.from(), request.to());
+
+        List<Long> slotIds = availabilityRepository.findActiveIdsBetween(
+                request.from().atStartOfDay(), request.to().plusDays(1).atStartOfDay());
+        if (slotIds.isEmpty()) {
+            return new DisableRangeResult(0, 0);
+        }
+
+        List<Booking> openBookings = bookingRepository.findOpenBySlotIdIn(slotIds);
+        List<Long> bookingIds = openBookings.stream().map(Booking::getId).toList();
+        if (!openBookings.isEmpty()) {
+            bookingRepository.cancelAll(bookingIds);
+            openBookings.forEach(booking -> eventPublisher.publishEvent(
+                    new BookingStatusChangedEvent(booking.getId(), booking.getStatus(), "cancelled")));
+        }
+        int disabled = availabilityRepository.deactivateAll(slotIds);
+
+        long changeSeq = changeSequence.next();
+        if (!bookingIds.isEmpty()) {
+            bookingRepository.stamp(bookingIds, changeSeq);
+        }
+        availabilityRepository.stamp(slotIds, changeSeq);
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(Set.copyOf(slotIds)));
+        return new DisableRangeResult(disabled, openBookings.size());
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
     }
 }
@@ -10,8 +10,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 public class Availability {
+    // Sequence ids (allocated in blocks) let Hibernate batch inserts; IDENTITY needs a round trip per row.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "availability_seq")
+    @SequenceGenerator(name = "availability_seq", sequenceName = "availability_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -29,4 +31,7 @@ public class Availability {
 
     @Column(nullable = false)
     private Boolean isActive = true;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
 }
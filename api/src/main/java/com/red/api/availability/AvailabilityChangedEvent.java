@@ -0,0 +1,14 @@
+package com.red.api.availability;
+
+import java.util.Set;
+
+/**
+ * Published whenever a slot or a booking that holds a slot changes. Listeners that cache or
+ * stream availability react to it once the surrounding transaction has committed.
+ */
+public record AvailabilityChangedEvent(Set<Long> slotIds) {
+
+    public static AvailabilityChangedEvent of(Long slotId) {
+        return new AvailabilityChangedEvent(slotId == null ? Set.of() : Set.of(slotId));
+    }
+}
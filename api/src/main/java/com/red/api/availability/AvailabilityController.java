@@ -1,13 +1,28 @@
 package com.red.api.availability;
 
-import com.red.api.booking.BookingRepository;
-import jakarta.annotation.PostConstruct;
+import com.red.api.cache.JsonSnapshot;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import com.red.api.datasource.ReplicaRead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
@@ -16,77 +31,91 @@ import java.util.List;
 public class AvailabilityController {
 
     private final AvailabilityRepository repository;
-    private final BookingRepository bookingRepository;
+    private final AvailabilitySnapshotService snapshotService;
+    private final AppProperties appProperties;
+    private final ChangeSequence changeSequence;
 
+    /**
+     * Active future slots between {@code from} and {@code to} (inclusive ISO dates), or within
+     * {@code month} (e.g. {@code 2025-11}). Without either, returns the next
+     * {@code defaultWindowDays} days. Windows longer than {@code maxWindowDays} are rejected.
+     */
     @GetMapping
-    public List<AvailabilityResponse> getAvailability() {
-        return repository.findByIsActiveTrueAndStartAfterOrderByStartAsc(LocalDateTime.now())
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    @ReplicaRead
+    public ResponseEntity<byte[]> getAvailability(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) YearMonth month,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        JsonSnapshot snapshot = snapshotService.snapshot(resolveWindow(from, to, month));
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
-    @PostConstruct
-    public void initTestData() {
-        if (repository.count() == 0) {
-            LocalDateTime startDate = LocalDateTime.of(2025, 11, 10, 13, 0);
-            LocalDateTime endDate = LocalDateTime.of(2025, 11, 28, 13, 0);
-
-            LocalDateTime pointer = startDate;
-            while (!pointer.isAfter(endDate)) {
-                switch (pointer.getDayOfWeek()) {
-                    case MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY ->
-                            createSlot(pointer, pointer.plusHours(1), "To be confirmed", 35);
-                    default -> {
-                    }
-                }
-
-                pointer = pointer.plusDays(1);
+    /**
+     * Slots created or changed after {@code since}, including ones that were disabled, so a client
+     * can patch the list it already has. When {@code since} is 0, ahead of the server, or more than
+     * {@code maxResults} slots changed, the response is a reset carrying the same list as
+     * {@code GET /availability} for the given window. Booking details are left out.
+     */
+    @GetMapping("/changes")
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public AvailabilityChanges getChanges(
+            @RequestParam long since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) YearMonth month) {
+        AvailabilityWindow window = resolveWindow(from, to, month);
+        // Read the clock first: everything stamped at or below it has committed.
+        long cursor = changeSequence.current();
+
+        if (since > 0 && since <= cursor) {
+            int maxResults = appProperties.availability().maxResults();
+            List<AvailabilityResponse> changed = snapshotService.loadChanged(since, cursor, maxResults + 1);
+            if (changed.size() <= maxResults) {
+                return new AvailabilityChanges(cursor, false, withoutBookings(changed));
             }
         }
+        return new AvailabilityChanges(cursor, true, withoutBookings(snapshotService.loadAvailability(window)));
     }
 
-    private void createSlot(LocalDateTime start, LocalDateTime end, String location, Integer capacity) {
-        Availability slot = new Availability();
-        slot.setStart(start);
-        slot.setEnd(end);
-        slot.setLocation(location);
-        slot.setCapacity(capacity);
-        slot.setStatus("available");
-        slot.setIsActive(true);
-        repository.save(slot);
+    private static List<AvailabilityResponse> withoutBookings(List<AvailabilityResponse> slots) {
+        return slots.stream().map(AvailabilityResponse::withoutBooking).toList();
     }
 
-    private AvailabilityResponse toResponse(Availability slot) {
-        BookingDetails bookingDetails = ("booked".equalsIgnoreCase(slot.getStatus())
-                || "pending".equalsIgnoreCase(slot.getStatus()))
-                ? bookingRepository.findTopBySlotIdOrderByCreatedAtDesc(String.valueOf(slot.getId()))
-                .map(booking -> new BookingDetails(
-                        booking.getId(),
-                        booking.getName(),
-                        booking.getEmail(),
-                        booking.getPhone(),
-                        booking.getSchool(),
-                        booking.getPresentationType(),
-                        booking.getLocation(),
-                        booking.getExtraNotes(),
-                        booking.getStatus(),
-                        booking.getCreatedAt(),
-                        booking.getSlotLabel()
-                ))
-                .orElse(null)
-                : null;
-
-        return new AvailabilityResponse(
-                slot.getId(),
-                slot.getStart(),
-                slot.getEnd(),
-                slot.getLocation(),
-                slot.getCapacity(),
-                slot.getStatus(),
-                slot.getIsActive(),
-                bookingDetails
-        );
+    private AvailabilityWindow resolveWindow(LocalDate from, LocalDate to, YearMonth month) {
+        AppProperties.AvailabilityOptions options = appProperties.availability();
+
+        if (month != null) {
+            if (from != null || to != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either month or from/to, not both");
+            }
+            return new AvailabilityWindow(month.atDay(1), month.atEndOfMonth());
+        }
+
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(options.defaultWindowDays() - 1L);
+
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= options.maxWindowDays()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range must not exceed " + options.maxWindowDays() + " days");
+        }
+        return new AvailabilityWindow(start, end);
     }
 
     public record AvailabilityResponse(
@@ -98,6 +127,20 @@ public class AvailabilityController {
             String status,
             Boolean isActive,
             BookingDetails booking
+    ) {
+        AvailabilityResponse withoutBooking() {
+            return new AvailabilityResponse(id, start, end, location, capacity, status, isActive, null);
+        }
+    }
+
+    /**
+     * Slots changed since the caller's cursor, or with {@code reset} set, the full list for the
+     * requested window. Either way the caller should send {@code cursor} as {@code since} next time.
+     */
+    public record AvailabilityChanges(
+            long cursor,
+            boolean reset,
+            List<AvailabilityResponse> slots
     ) {}
 
     public record BookingDetails(
@@ -1,10 +1,95 @@
 package com.red.api.availability;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AvailabilityRepository extends JpaRepository<Availability, Long> {
-    List<Availability> findByIsActiveTrueAndStartAfterOrderByStartAsc(LocalDateTime start);
+    /**
+     * Active slots starting in {@code [from, to)}, earliest first, capped at {@code limit} rows.
+     */
+    @Query("""
+            select a from Availability a
+            where a.isActive = true and a.start >= :from and a.start < :to
+            order by a.start
+            """)
+    List<Availability> findActiveInWindow(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          Limit limit);
+
+    /**
+     * Every slot, active or not, earliest first.
+     */
+    @Query("""
+            select new com.red.api.availability.AvailabilitySummary(
+                a.id, a.start, a.end, a.location, a.capacity, a.status, a.isActive)
+            from Availability a
+            order by a.start, a.id
+            """)
+    List<AvailabilitySummary> findAllSummaries();
+
+    /**
+     * Atomically moves an active, available slot to pending. Returns 1 for the caller that won the
+     * slot and 0 for everyone else, so concurrent bookings never both pass the availability check.
+     */
+    @Modifying
+    @Query("""
+            update Availability a set a.status = 'pending'
+            where a.id = :id and a.isActive = true and a.status = 'available'
+            """)
+    int claimAvailable(@Param("id") Long id);
+
+    /**
+     * Start times of the active slots starting in {@code [from, to)}, used to skip slots a
+     * recurrence would duplicate.
+     */
+    @Query("""
+            select a.start from Availability a
+            where a.isActive = true and a.start >= :from and a.start < :to
+            """)
+    List<LocalDateTime> findActiveStartsBetween(@Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query("""
+            select a.id from Availability a
+            where a.isActive = true and a.start >= :from and a.start < :to
+            """)
+    List<Long> findActiveIdsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Deactivates the given slots in one statement and releases any hold they had.
+     */
+    @Modifying
+    @Query("""
+            update Availability a set a.isActive = false, a.status = 'available'
+            where a.id in :ids
+            """)
+    int deactivateAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Availability a set a.status = :status where a.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    /**
+     * Stamps slots written earlier in the transaction with its change sequence value.
+     */
+    @Modifying
+    @Query("update Availability a set a.changeSeq = :changeSeq where a.id in :ids")
+    int stamp(@Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Slots written after {@code since} up to and including {@code upTo}, in change order.
+     */
+    @Query("""
+            select a from Availability a
+            where a.changeSeq > :since and a.changeSeq <= :upTo
+            order by a.changeSeq, a.id
+            """)
+    List<Availability> findChanged(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
 }
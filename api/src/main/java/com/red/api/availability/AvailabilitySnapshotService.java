@@ -0,0 +1,159 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.api.availability.AvailabilityController.AvailabilityResponse;
+import com.red.api.availability.AvailabilityController.BookingDetails;
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.cache.JsonSnapshot;
+import com.red.api.cache.JsonSnapshotCache;
+import com.red.api.config.AppProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the public availability list for a date window and keeps a pre-serialized copy per window
+ * in memory. All copies are dropped after every committed {@link AvailabilityChangedEvent} and
+ * rebuilt on the next read.
+ */
+@Service
+public class AvailabilitySnapshotService {
+
+    private static final BinaryOperator<Booking> NEWEST_BOOKING = BinaryOperator.maxBy(
+            Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId));
+    private static final int MAX_CACHED_WINDOWS = 64;
+
+    private final AvailabilityRepository repository;
+    private final BookingRepository bookingRepository;
+    private final int maxResults;
+    private final JsonSnapshotCache<AvailabilityWindow> snapshotCache;
+
+    public AvailabilitySnapshotService(AvailabilityRepository repository,
+                                       BookingRepository bookingRepository,
+                                       ObjectMapper objectMapper,
+                                       AppProperties appProperties) {
+        this.repository = repository;
+        this.bookingRepository = bookingRepository;
+        this.maxResults = appProperties.availability().maxResults();
+        this.snapshotCache = new JsonSnapshotCache<>(
+                this::loadAvailability,
+                objectMapper,
+                appProperties.availability().snapshotTtl(),
+                MAX_CACHED_WINDOWS,
+                Clock.systemUTC()
+        );
+    }
+
+    public JsonSnapshot snapshot(AvailabilityWindow window) {
+        return snapshotCache.get(window);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        snapshotCache.invalidate();
+    }
+
+    /**
+     * Future active slots in the window, earliest first and at most {@code maxResults} of them.
+     */
+    List<AvailabilityResponse> loadAvailability(AvailabilityWindow window) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = window.from().atStartOfDay();
+        List<Availability> slots = repository.findActiveInWindow(
+                windowStart.isAfter(now) ? windowStart : now,
+                window.to().plusDays(1).atStartOfDay(),
+                Limit.of(maxResults)
+        );
+        Map<Long, Booking> latestBookings = findLatestBookings(slots);
+
+        return slots.stream()
+                .map(slot -> toResponse(slot, latestBookings.get(slot.getId())))
+                .toList();
+    }
+
+    /**
+     * The given slots in their current state with their latest booking, earliest first, whether
+     * or not they are still active.
+     */
+    List<AvailabilityResponse> loadSlots(Collection<Long> slotIds) {
+        List<Availability> slots = repository.findAllById(slotIds).stream()
+                .sorted(Comparator.comparing(Availability::getStart))
+                .toList();
+        Map<Long, Booking> latestBookings = findLatestBookings(slots);
+
+        return slots.stream()
+                .map(slot -> toResponse(slot, latestBookings.get(slot.getId())))
+                .toList();
+    }
+
+    /**
+     * Slots stamped after {@code since} and at most {@code upTo}, in change order, at most
+     * {@code limit} of them.
+     */
+    List<AvailabilityResponse> loadChanged(long since, long upTo, int limit) {
+        List<Availability> slots = repository.findChanged(since, upTo, Limit.of(limit));
+        Map<Long, Booking> latestBookings = findLatestBookings(slots);
+
+        return slots.stream()
+                .map(slot -> toResponse(slot, latestBookings.get(slot.getId())))
+                .toList();
+    }
+
+    private Map<Long, Booking> findLatestBookings(List<Availability> slots) {
+        List<Long> heldSlotIds = slots.stream()
+                .filter(this::isHeld)
+                .map(Availability::getId)
+                .toList();
+
+        if (heldSlotIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return bookingRepository.findLatestBySlotIdIn(heldSlotIds)
+                .stream()
+                .collect(Collectors.toMap(Booking::getSlotId, booking -> booking, NEWEST_BOOKING));
+    }
+
+    private boolean isHeld(Availability slot) {
+        return "booked".equalsIgnoreCase(slot.getStatus()) || "pending".equalsIgnoreCase(slot.getStatus());
+    }
+
+    private AvailabilityResponse toResponse(Availability slot, Booking latestBooking) {
+        BookingDetails bookingDetails = isHeld(slot) && latestBooking != null
+                ? new BookingDetails(
+                        latestBooking.getId(),
+                        latestBooking.getName(),
+                        latestBooking.getEmail(),
+                        latestBooking.getPhone(),
+                        latestBooking.getSchool(),
+                        latestBooking.getPresentationType(),
+                        latestBooking.getLocation(),
+                        latestBooking.getExtraNotes(),
+                        latestBooking.getStatus(),
+                        latestBooking.getCreatedAt(),
+                        latestBooking.getSlotLabel()
+                )
+                : null;
+
+        return new AvailabilityResponse(
+                slot.getId(),
+                slot.getStart(),
+                slot.getEnd(),
+                slot.getLocation(),
+                slot.getCapacity(),
+                slot.getStatus(),
+                slot.getIsActive(),
+                bookingDetails
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.red.api.availability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class AvailabilityStreamController {
+
+    private final AvailabilityStreamService streamService;
+
+    @GetMapping(path = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return streamService.subscribe(false);
+    }
+
+    /**
+     * Same as {@code /availability/stream} with the latest booking on each slot. Browsers cannot set
+     * headers on an {@code EventSource}, so the admin first gets a short-lived, stream-only ticket
+     * from {@code POST /admin/auth/stream-ticket} and passes it as {@code ?ticket=}. The admin token
+     * itself is never accepted in the URL.
+     */
+    @GetMapping(path = "/admin/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter adminStream() {
+        return streamService.subscribe(true);
+    }
+}
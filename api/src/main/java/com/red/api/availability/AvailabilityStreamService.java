@@ -0,0 +1,207 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.api.availability.AvailabilityController.AvailabilityResponse;
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes slot changes to open calendars over Server-Sent Events. After each committed
+ * {@link AvailabilityChangedEvent} the changed slots are loaded once, serialized once per audience
+ * and sent as a {@code slots} event: public subscribers get the slot fields only, admin subscribers
+ * also get the latest booking.
+ *
+ * <p>Open streams are async servlet requests, so an idle connection holds no thread. Each subscriber
+ * has a buffer of {@code bufferSize} events drained by a virtual thread while it has something to
+ * send; a subscriber whose buffer overflows is disconnected, and {@code EventSource} reconnects and
+ * reloads. A comment is sent every {@code heartbeatInterval} to keep proxies from closing the stream.
+ */
+@Component
+public class AvailabilityStreamService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityStreamService.class);
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final AvailabilitySnapshotService snapshotService;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.AvailabilityStream settings;
+    private final Set<Subscriber> publicSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> adminSubscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService coordinator;
+    private final ExecutorService writers;
+
+    public AvailabilityStreamService(AvailabilitySnapshotService snapshotService,
+                                     ObjectMapper objectMapper,
+                                     AppProperties appProperties) {
+        this.snapshotService = snapshotService;
+        this.objectMapper = objectMapper;
+        this.settings = appProperties.availabilityStream();
+        this.coordinator = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("availability-stream").daemon().factory());
+        this.writers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("availability-stream-writer-", 0).factory());
+    }
+
+    @PostConstruct
+    void start() {
+        long heartbeatMillis = Math.max(1000, settings.heartbeatInterval().toMillis());
+        coordinator.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        coordinator.shutdownNow();
+        publicSubscribers.forEach(subscriber -> subscriber.close(publicSubscribers));
+        adminSubscribers.forEach(subscriber -> subscriber.close(adminSubscribers));
+        writers.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("availability.stream.subscribers", publicSubscribers, Set::size)
+                .description("Open availability event streams")
+                .tag("audience", "public")
+                .register(registry);
+        Gauge.builder("availability.stream.subscribers", adminSubscribers, Set::size)
+                .description("Open availability event streams")
+                .tag("audience", "admin")
+                .register(registry);
+    }
+
+    /**
+     * Opens a stream for one client. Rejected with 503 once {@code maxSubscribers} streams are open.
+     */
+    public SseEmitter subscribe(boolean includeBookings) {
+        if (publicSubscribers.size() + adminSubscribers.size() >= settings.maxSubscribers()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open availability streams");
+        }
+
+        Set<Subscriber> audience = includeBookings ? adminSubscribers : publicSubscribers;
+        SseEmitter emitter = new SseEmitter(settings.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, settings.bufferSize());
+        emitter.onCompletion(() -> audience.remove(subscriber));
+        emitter.onTimeout(() -> subscriber.close(audience));
+        emitter.onError(error -> audience.remove(subscriber));
+        audience.add(subscriber);
+
+        subscriber.offer(audience, SseEmitter.event().reconnectTime(RECONNECT_DELAY_MILLIS).comment("connected").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (event.slotIds().isEmpty() || (publicSubscribers.isEmpty() && adminSubscribers.isEmpty())) {
+            return;
+        }
+        coordinator.execute(() -> broadcast(event.slotIds()));
+    }
+
+    int subscriberCount() {
+        return publicSubscribers.size() + adminSubscribers.size();
+    }
+
+    private void broadcast(Set<Long> slotIds) {
+        try {
+            List<AvailabilityResponse> slots = snapshotService.loadSlots(slotIds);
+            if (slots.isEmpty()) {
+                return;
+            }
+            if (!adminSubscribers.isEmpty()) {
+                publish(adminSubscribers, slotsEvent(slots));
+            }
+            if (!publicSubscribers.isEmpty()) {
+                publish(publicSubscribers, slotsEvent(slots.stream().map(AvailabilityResponse::withoutBooking).toList()));
+            }
+        } catch (RuntimeException | JsonProcessingException exception) {
+            log.warn("Unable to stream availability change for slots {}: {}", slotIds, exception.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        publish(publicSubscribers, HEARTBEAT);
+        publish(adminSubscribers, HEARTBEAT);
+    }
+
+    private Set<DataWithMediaType> slotsEvent(List<AvailabilityResponse> slots) throws JsonProcessingException {
+        return SseEmitter.event()
+                .name("slots")
+                .data(objectMapper.writeValueAsString(slots), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private static void publish(Set<Subscriber> audience, Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : audience) {
+            subscriber.offer(audience, event);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        }
+
+        void offer(Set<Subscriber> audience, Set<DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                // Too slow to keep up; the client reconnects and starts from a fresh load.
+                close(audience);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(() -> drain(audience));
+            }
+        }
+
+        private void drain(Set<Subscriber> audience) {
+            try {
+                do {
+                    Set<DataWithMediaType> event;
+                    while ((event = buffer.poll()) != null) {
+                        emitter.send(event);
+                    }
+                    draining.set(false);
+                } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException exception) {
+                // The client went away; the container reports it through onError/onCompletion.
+                audience.remove(this);
+            }
+        }
+
+        void close(Set<Subscriber> audience) {
+            audience.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
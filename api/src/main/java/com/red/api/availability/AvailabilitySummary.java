@@ -0,0 +1,16 @@
+package com.red.api.availability;
+
+import java.time.LocalDateTime;
+
+/**
+ * A slot as the admin calendar lists it, selected column by column instead of loading entities.
+ */
+public record AvailabilitySummary(
+        Long id,
+        LocalDateTime start,
+        LocalDateTime end,
+        String location,
+        Integer capacity,
+        String status,
+        Boolean isActive
+) {}
@@ -0,0 +1,10 @@
+package com.red.api.availability;
+
+import java.time.LocalDate;
+
+/**
+ * A range of calendar days, both inclusive, used to scope the public availability list to what the
+ * calendar is showing.
+ */
+public record AvailabilityWindow(LocalDate from, LocalDate to) {
+}
@@ -0,0 +1,68 @@
+package com.red.api.availability;
+
+import com.red.api.changes.ChangeSequence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills an empty {@code availability} table with weekday sample slots when running with the
+ * {@code dev} profile. Runs once the application has started, so it never delays startup or
+ * touches a production database. The profile is checked here rather than with {@code @Profile}
+ * because AOT-processed builds fix profile conditions at build time. The slots share one change
+ * sequence value, like a recurring batch, so change feeds pick them up.
+ */
+@Component
+@RequiredArgsConstructor
+public class DevAvailabilitySeeder implements ApplicationRunner {
+
+    private final AvailabilityRepository repository;
+    private final ChangeSequence changeSequence;
+    private final Environment environment;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (!environment.matchesProfiles("dev") || repository.count() > 0) {
+            return;
+        }
+
+        LocalDateTime startDate = LocalDateTime.of(2025, 11, 10, 13, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 11, 28, 13, 0);
+
+        List<Availability> slots = new ArrayList<>();
+        LocalDateTime pointer = startDate;
+        while (!pointer.isAfter(endDate)) {
+            switch (pointer.getDayOfWeek()) {
+                case MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY ->
+                        slots.add(newSlot(pointer, pointer.plusHours(1), "To be confirmed", 35));
+                default -> {
+                }
+            }
+
+            pointer = pointer.plusDays(1);
+        }
+
+        long changeSeq = changeSequence.next();
+        slots.forEach(slot -> slot.setChangeSeq(changeSeq));
+        repository.saveAll(slots);
+    }
+
+    private static Availability newSlot(LocalDateTime start, LocalDateTime end, String location, Integer capacity) {
+        Availability slot = new Availability();
+        slot.setStart(start);
+        slot.setEnd(end);
+        slot.setLocation(location);
+        slot.setCapacity(capacity);
+        slot.setStatus("available");
+        slot.setIsActive(true);
+        return slot;
+    }
+}
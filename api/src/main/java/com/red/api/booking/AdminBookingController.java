@@ -1,20 +1,38 @@
 package com.red.api.booking;
 
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityChangedEvent;
 import com.red.api.availability.AvailabilityRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.datasource.ReplicaRead;
 import com.red.api.notifications.EmailService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/admin/bookings")
@@ -22,31 +40,111 @@ import java.util.Locale;
 public class AdminBookingController {
 
     private static final List<String> ALLOWED_STATUSES = List.of("pending", "confirmed", "rejected", "cancelled");
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BULK_SIZE = 200;
 
     private final BookingRepository bookingRepository;
     private final AvailabilityRepository availabilityRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
 
+    public record BookingPage(
+            List<BookingSummary> items,
+            String nextCursor,
+            Long total
+    ) {}
+
+    /**
+     * Bookings changed since the caller's cursor, newest change last. With {@code reset} set the
+     * cursor was unusable and {@code items} is instead the first page of {@code GET /admin/bookings},
+     * continued with {@code nextCursor}. Send {@code cursor} as {@code since} next time.
+     */
+    public record BookingChanges(
+            long cursor,
+            boolean reset,
+            List<BookingSummary> items,
+            String nextCursor
+    ) {}
+
+    record BulkStatusRequest(
+            @NotEmpty @Size(max = MAX_BULK_SIZE) List<Long> ids,
+            String status
+    ) {}
+
+    /**
+     * Lists bookings newest first, one page at a time. Pass the returned {@code nextCursor} back as
+     * {@code cursor} to fetch the following page; it is null on the last page. {@code from} and
+     * {@code to} filter on the presentation date (both inclusive). The total is only counted when
+     * {@code includeTotal} is set, since it costs a separate scan.
+     */
     @GetMapping
-    public List<Booking> list(@RequestParam(required = false) String status) {
-        if (status != null && !status.isBlank()) {
-            return bookingRepository.findByStatusOrderByCreatedAtDesc(status.toLowerCase(Locale.ROOT));
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public BookingPage list(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String presentationType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        String normalisedStatus = status == null || status.isBlank() ? null : status.trim().toLowerCase(Locale.ROOT);
+        if (normalisedStatus != null && !ALLOWED_STATUSES.contains(normalisedStatus)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported booking status: " + status);
+        }
+
+        BookingCursor after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : BookingCursor.decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
         }
-        return bookingRepository.findAll();
+
+        BookingSearchCriteria criteria = new BookingSearchCriteria(
+                normalisedStatus,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                presentationType == null || presentationType.isBlank() ? null : presentationType.trim()
+        );
+
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<BookingSummary> rows = bookingRepository.search(criteria, after, pageSize + 1);
+        List<BookingSummary> items = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = rows.size() > pageSize ? BookingCursor.after(items.get(pageSize - 1)).encode() : null;
+        Long total = includeTotal ? bookingRepository.count(criteria) : null;
+
+        return new BookingPage(items, nextCursor, total);
     }
 
-    @PatchMapping("/{id}/status")
-    @Transactional
-    public Booking adminUpdateStatus(@PathVariable Long id, @RequestParam String status) {
-        String normalisedStatus = status == null ? null : status.trim().toLowerCase(Locale.ROOT);
+    /**
+     * Bookings created or changed after {@code since}. Falls back to a reset when {@code since} is 0,
+     * ahead of the server, or more than a page of bookings changed.
+     */
+    @GetMapping("/changes")
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public BookingChanges changes(@RequestParam long since) {
+        // Read the clock first: everything stamped at or below it has committed.
+        long cursor = changeSequence.current();
 
-        if (normalisedStatus == null || normalisedStatus.isBlank()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        if (since > 0 && since <= cursor) {
+            List<BookingSummary> changed = bookingRepository.findChanged(since, cursor, Limit.of(MAX_PAGE_SIZE + 1));
+            if (changed.size() <= MAX_PAGE_SIZE) {
+                return new BookingChanges(cursor, false, changed, null);
+            }
         }
 
-        if (!ALLOWED_STATUSES.contains(normalisedStatus)) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported booking status: " + status);
-        }
+        BookingPage firstPage = list(null, null, null, null, null, DEFAULT_PAGE_SIZE, false);
+        return new BookingChanges(cursor, true, firstPage.items(), firstPage.nextCursor());
+    }
+
+    @PatchMapping("/{id}/status")
+    @Transactional
+    public Booking adminUpdateStatus(@PathVariable Long id, @RequestParam String status) {
+        String normalisedStatus = normaliseStatus(status);
 
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
@@ -59,34 +157,114 @@ public class AdminBookingController {
             return booking;
         }
 
+        String previousStatus = booking.getStatus();
         booking.setStatus(normalisedStatus);
         Booking saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(saved.getId(), previousStatus, saved.getStatus()));
 
-        updateAvailabilityStatus(saved);
+        Optional<Availability> slot = updateAvailabilityStatus(saved);
+        long changeSeq = changeSequence.next();
+        saved.setChangeSeq(changeSeq);
+        slot.ifPresent(availability -> availability.setChangeSeq(changeSeq));
         sendNotificationEmail(saved);
 
         return saved;
     }
 
-    private void updateAvailabilityStatus(Booking booking) {
-        if (booking.getSlotId() == null || booking.getSlotId().isBlank()) {
-            return;
+    /**
+     * Moves every listed booking to {@code status} in one transaction, or none of them if any id is
+     * unknown or names a cancelled booking. Bookings already in that status are left alone. The
+     * bookings are loaded with a row lock and their slots moved with a single UPDATE before the
+     * change sequence is taken; the bookings are then written as one JDBC batch, the slots stamped
+     * with one more UPDATE, and the notifications go out as one batched outbox insert. Returns the
+     * bookings in request order.
+     */
+    @PatchMapping("/status")
+    @Transactional
+    public List<Booking> adminBulkUpdateStatus(@Valid @RequestBody BulkStatusRequest request) {
+        String normalisedStatus = normaliseStatus(request.status());
+        Set<Long> ids = new LinkedHashSet<>(request.ids());
+
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        List<Long> missing = ids.stream().filter(id -> !bookings.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Bookings not found: " + missing);
+        }
+        if (!"cancelled".equals(normalisedStatus)) {
+            List<Long> cancelled = ids.stream()
+                    .filter(id -> "cancelled".equalsIgnoreCase(bookings.get(id).getStatus()))
+                    .toList();
+            if (!cancelled.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Cancelled bookings cannot be updated: " + cancelled);
+            }
         }
 
-        try {
-            Long slotId = Long.parseLong(booking.getSlotId());
-            availabilityRepository.findById(slotId).ifPresent(slot -> {
-                switch (booking.getStatus()) {
-                    case "pending" -> slot.setStatus("pending");
-                    case "confirmed" -> slot.setStatus("booked");
-                    case "rejected", "cancelled" -> slot.setStatus("available");
-                    default -> {
-                    }
-                }
-                availabilityRepository.save(slot);
-            });
-        } catch (NumberFormatException ignored) {
+        List<Booking> changed = ids.stream()
+                .map(bookings::get)
+                .filter(booking -> !normalisedStatus.equals(booking.getStatus()))
+                .toList();
+        if (!changed.isEmpty()) {
+            Set<Long> slotIds = new LinkedHashSet<>();
+            changed.forEach(booking -> slotIds.add(booking.getSlotId()));
+            String slotStatus = slotStatusFor(normalisedStatus);
+            if (slotStatus != null) {
+                availabilityRepository.updateStatus(slotIds, slotStatus);
+                eventPublisher.publishEvent(new AvailabilityChangedEvent(slotIds));
+            }
+
+            // The booking rows are already locked, so their new status and change sequence go out
+            // in the same batched update.
+            long changeSeq = changeSequence.next();
+            for (Booking booking : changed) {
+                String previousStatus = booking.getStatus();
+                booking.setStatus(normalisedStatus);
+                booking.setChangeSeq(changeSeq);
+                eventPublisher.publishEvent(new BookingStatusChangedEvent(booking.getId(), previousStatus, normalisedStatus));
+            }
+            if (slotStatus != null) {
+                availabilityRepository.stamp(slotIds, changeSeq);
+            }
+            emailService.sendBookingStatusEmails(changed);
         }
+
+        return ids.stream().map(bookings::get).toList();
+    }
+
+    private static String normaliseStatus(String status) {
+        String normalisedStatus = status == null ? null : status.trim().toLowerCase(Locale.ROOT);
+
+        if (normalisedStatus == null || normalisedStatus.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        }
+
+        if (!ALLOWED_STATUSES.contains(normalisedStatus)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported booking status: " + status);
+        }
+        return normalisedStatus;
+    }
+
+    private static String slotStatusFor(String bookingStatus) {
+        return switch (bookingStatus) {
+            case "pending" -> "pending";
+            case "confirmed" -> "booked";
+            case "rejected", "cancelled" -> "available";
+            default -> null;
+        };
+    }
+
+    private Optional<Availability> updateAvailabilityStatus(Booking booking) {
+        Optional<Availability> slot = availabilityRepository.findById(booking.getSlotId());
+        slot.ifPresent(availability -> {
+            String slotStatus = slotStatusFor(booking.getStatus());
+            if (slotStatus != null) {
+                availability.setStatus(slotStatus);
+            }
+            availabilityRepository.save(availability);
+            eventPublisher.publishEvent(AvailabilityChangedEvent.of(availability.getId()));
+        });
+        return slot;
     }
 
     private void sendNotificationEmail(Booking booking) {
@@ -42,7 +42,7 @@ public class Booking {
     private String extraNotes;
 
     @Column(name = "slot_id", nullable = false)
-    private String slotId;
+    private Long slotId;
 
     @Column(name = "slot_label", columnDefinition = "text", nullable = false)
     private String slotLabel;
@@ -62,6 +62,9 @@ public class Booking {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     @PrePersist
     void onCreate() {
         if (createdAt == null) {
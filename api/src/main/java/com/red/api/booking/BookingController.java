@@ -1,13 +1,17 @@
 package com.red.api.booking;
 
 import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityChangedEvent;
 import com.red.api.availability.AvailabilityRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.datasource.ReplicaRead;
 import com.red.api.notifications.EmailService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,6 +39,8 @@ public class BookingController {
     private final BookingRepository repository;
     private final AvailabilityRepository availabilityRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
 
     record CreateBookingRequest(
             @NotBlank String name,
@@ -51,14 +57,15 @@ public class BookingController {
     @ResponseStatus(HttpStatus.CREATED)
     @Transactional
     public Booking createBooking(@Valid @RequestBody CreateBookingRequest request) {
+        boolean claimed = availabilityRepository.claimAvailable(request.slotId()) == 1;
+
         Availability availability = availabilityRepository.findById(request.slotId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Availability slot not found"));
 
-        if (!Boolean.TRUE.equals(availability.getIsActive())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "This slot is no longer active");
-        }
-
-        if (!"available".equalsIgnoreCase(availability.getStatus())) {
+        if (!claimed) {
+            if (!Boolean.TRUE.equals(availability.getIsActive())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "This slot is no longer active");
+            }
             throw new ResponseStatusException(HttpStatus.CONFLICT, "This slot has already been booked");
         }
 
@@ -70,16 +77,21 @@ public class BookingController {
         booking.setPresentationType(request.presentationType());
         booking.setLocation(request.location());
         booking.setExtraNotes(request.extraNotes());
-        booking.setSlotId(String.valueOf(availability.getId()));
+        booking.setSlotId(availability.getId());
         booking.setSlotLabel(buildSlotLabel(availability.getStart(), availability.getEnd()));
         booking.setPresentationStart(availability.getStart());
         booking.setPresentationEnd(availability.getEnd());
         booking.setCreatedAt(LocalDateTime.now());
 
+        // Only the winner of the slot takes the change sequence.
+        long changeSeq = changeSequence.next();
+        availability.setChangeSeq(changeSeq);
+        booking.setChangeSeq(changeSeq);
+
         Booking saved = repository.save(booking);
 
-        availability.setStatus("pending");
-        availabilityRepository.save(availability);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.of(availability.getId()));
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(saved.getId(), null, saved.getStatus()));
 
         emailService.sendBookingPendingEmail(saved);
 
@@ -87,6 +99,7 @@ public class BookingController {
     }
 
     @GetMapping("/cancellations/{token}")
+    @ReplicaRead
     public CancellationResponse getBookingForCancellation(@PathVariable String token) {
         Booking booking = repository.findByCancellationToken(token)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
@@ -108,10 +121,15 @@ public class BookingController {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "This booking request has already been rejected.");
         }
 
+        String previousStatus = booking.getStatus();
         booking.setStatus("cancelled");
         Booking saved = repository.save(booking);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(saved.getId(), previousStatus, saved.getStatus()));
 
-        updateAvailabilityStatus(saved.getSlotId(), "cancelled");
+        Optional<Availability> slot = updateAvailabilityStatus(saved.getSlotId(), "cancelled");
+        long changeSeq = changeSequence.next();
+        saved.setChangeSeq(changeSeq);
+        slot.ifPresent(availability -> availability.setChangeSeq(changeSeq));
         emailService.sendBookingCancelledEmail(saved);
 
         return toCancellationResponse(saved);
@@ -127,21 +145,10 @@ public class BookingController {
             String location
     ) {}
 
-    private void updateAvailabilityStatus(String slotId, String bookingStatus) {
-        if (slotId == null || slotId.isBlank()) {
-            return;
-        }
-
-        Long parsedSlotId;
-        try {
-            parsedSlotId = Long.parseLong(slotId);
-        } catch (NumberFormatException exception) {
-            return;
-        }
-
-        Optional<Availability> availabilityOptional = availabilityRepository.findById(parsedSlotId);
+    private Optional<Availability> updateAvailabilityStatus(Long slotId, String bookingStatus) {
+        Optional<Availability> availabilityOptional = availabilityRepository.findById(slotId);
         if (availabilityOptional.isEmpty()) {
-            return;
+            return availabilityOptional;
         }
 
         Availability availability = availabilityOptional.get();
@@ -154,9 +161,11 @@ public class BookingController {
         }
 
         availabilityRepository.save(availability);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.of(availability.getId()));
+        return availabilityOptional;
     }
 
-    private String buildSlotLabel(LocalDateTime start, LocalDateTime end) {
+    static String buildSlotLabel(LocalDateTime start, LocalDateTime end) {
         if (start == null) {
             return "Presentation slot";
         }
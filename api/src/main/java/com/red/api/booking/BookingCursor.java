@@ -0,0 +1,43 @@
+package com.red.api.booking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the admin booking list, which is ordered by {@code (createdAt desc, id desc)}. Encoded
+ * as an opaque URL-safe token so clients only ever echo back what the previous page returned.
+ */
+public record BookingCursor(LocalDateTime createdAt, Long id) {
+
+    public static BookingCursor after(BookingSummary booking) {
+        return new BookingCursor(booking.createdAt(), booking.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static BookingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new BookingCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException exception) {
+            throw new IllegalArgumentException("Malformed cursor", exception);
+        }
+    }
+}
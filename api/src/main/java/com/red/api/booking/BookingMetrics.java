@@ -0,0 +1,28 @@
+package com.red.api.booking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts committed booking state transitions as {@code booking.transitions}, tagged with the
+ * previous status ({@code new} for a created booking) and the new one.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        Counter.builder("booking.transitions")
+                .description("Booking status transitions")
+                .tag("from", event.previousStatus() == null ? "new" : event.previousStatus())
+                .tag("to", event.status())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,14 +1,74 @@
 package com.red.api.booking;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByStatusOrderByCreatedAtDesc(String status);
-
-    Optional<Booking> findTopBySlotIdOrderByCreatedAtDesc(String slotId);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingSearchRepository {
+    Optional<Booking> findTopBySlotIdOrderByCreatedAtDesc(Long slotId);
 
     Optional<Booking> findByCancellationToken(String cancellationToken);
+
+    /**
+     * Loads the most recent booking for each of the given slots in a single query.
+     * Slots with several bookings sharing the same latest timestamp return all of them,
+     * so callers should pick one per slot.
+     */
+    @Query("""
+            select b from Booking b
+            where b.slotId in :slotIds
+              and b.createdAt = (
+                  select max(latest.createdAt) from Booking latest where latest.slotId = b.slotId
+              )
+            """)
+    List<Booking> findLatestBySlotIdIn(@Param("slotIds") Collection<Long> slotIds);
+
+    /**
+     * Bookings on the given slots that still hold them, i.e. neither cancelled nor rejected.
+     */
+    @Query("""
+            select b from Booking b
+            where b.slotId in :slotIds and b.status not in ('cancelled', 'rejected')
+            """)
+    List<Booking> findOpenBySlotIdIn(@Param("slotIds") Collection<Long> slotIds);
+
+    /**
+     * Loads the given bookings and locks their rows until the transaction ends, so a writer can
+     * take the change sequence before it modifies them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.id in :ids")
+    List<Booking> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Booking b set b.status = 'cancelled' where b.id in :ids")
+    int cancelAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stamps bookings written earlier in the transaction with its change sequence value.
+     */
+    @Modifying
+    @Query("update Booking b set b.changeSeq = :changeSeq where b.id in :ids")
+    int stamp(@Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Bookings written after {@code since} up to and including {@code upTo}, in change order.
+     */
+    @Query("""
+            select new com.red.api.booking.BookingSummary(
+                b.id, b.name, b.email, b.phone, b.school, b.presentationType, b.location, b.extraNotes,
+                b.slotLabel, b.presentationStart, b.status, b.createdAt)
+            from Booking b
+            where b.changeSeq > :since and b.changeSeq <= :upTo
+            order by b.changeSeq, b.id
+            """)
+    List<BookingSummary> findChanged(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
 }
@@ -0,0 +1,15 @@
+package com.red.api.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for the admin booking list. Null fields are ignored; the presentation window is
+ * inclusive of {@code presentationFrom} and exclusive of {@code presentationTo}.
+ */
+public record BookingSearchCriteria(
+        String status,
+        LocalDateTime presentationFrom,
+        LocalDateTime presentationTo,
+        String presentationType
+) {
+}
@@ -0,0 +1,14 @@
+package com.red.api.booking;
+
+import java.util.List;
+
+public interface BookingSearchRepository {
+
+    /**
+     * Returns up to {@code limit} bookings matching the criteria, newest first, starting strictly
+     * after {@code after} when it is given.
+     */
+    List<BookingSummary> search(BookingSearchCriteria criteria, BookingCursor after, int limit);
+
+    long count(BookingSearchCriteria criteria);
+}
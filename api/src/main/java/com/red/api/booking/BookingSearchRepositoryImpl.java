@@ -0,0 +1,90 @@
+package com.red.api.booking;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset pagination over {@code (created_at, id)}: each page seeks past the last row of the previous
+ * one instead of using an offset, so the cost of a page does not grow with how deep it is. Rows are
+ * selected straight into {@link BookingSummary}, so nothing is added to the persistence context.
+ */
+class BookingSearchRepositoryImpl implements BookingSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingSummary> search(BookingSearchCriteria criteria, BookingCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingSummary> query = cb.createQuery(BookingSummary.class);
+        Root<Booking> booking = query.from(Booking.class);
+        query.select(cb.construct(BookingSummary.class,
+                booking.get("id"),
+                booking.get("name"),
+                booking.get("email"),
+                booking.get("phone"),
+                booking.get("school"),
+                booking.get("presentationType"),
+                booking.get("location"),
+                booking.get("extraNotes"),
+                booking.get("slotLabel"),
+                booking.get("presentationStart"),
+                booking.get("status"),
+                booking.get("createdAt")));
+
+        List<Predicate> predicates = filters(cb, booking, criteria);
+        if (after != null) {
+            Path<LocalDateTime> createdAt = booking.get("createdAt");
+            Path<Long> id = booking.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))
+            ));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(booking.get("createdAt")), cb.desc(booking.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long count(BookingSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Booking> booking = query.from(Booking.class);
+
+        query.select(cb.count(booking))
+                .where(filters(cb, booking, criteria).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<Booking> booking, BookingSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(booking.get("status"), criteria.status()));
+        }
+        if (criteria.presentationFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(booking.get("presentationStart"), criteria.presentationFrom()));
+        }
+        if (criteria.presentationTo() != null) {
+            predicates.add(cb.lessThan(booking.get("presentationStart"), criteria.presentationTo()));
+        }
+        if (criteria.presentationType() != null) {
+            predicates.add(cb.equal(booking.get("presentationType"), criteria.presentationType()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,8 @@
+package com.red.api.booking;
+
+/**
+ * Published when a booking is created or moves to a new status. {@code previousStatus} is null for
+ * a newly created booking.
+ */
+public record BookingStatusChangedEvent(Long bookingId, String previousStatus, String status) {
+}
@@ -0,0 +1,23 @@
+package com.red.api.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking as the admin list shows it. Loaded with a constructor query so list reads skip entity
+ * hydration and dirty checking, and internal columns such as the cancellation token never leave
+ * the database.
+ */
+public record BookingSummary(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        String school,
+        String presentationType,
+        String location,
+        String extraNotes,
+        String slotLabel,
+        LocalDateTime presentationStart,
+        String status,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,32 @@
+package com.red.api.cache;
+
+import java.time.Instant;
+
+/**
+ * An immutable, pre-serialized JSON payload together with the strong ETag that identifies it.
+ */
+public record JsonSnapshot(byte[] body, String etag, long generation, Instant builtAt) {
+
+    /**
+     * Returns true when the given {@code If-None-Match} header value names this snapshot's ETag.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
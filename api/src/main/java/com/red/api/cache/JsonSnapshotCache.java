@@ -0,0 +1,88 @@
+package com.red.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Node-local cache of JSON documents keyed by {@code K}. Each document is serialized once per
+ * rebuild and served as bytes until it is invalidated or older than the configured time to live.
+ *
+ * <p>Every invalidation bumps a generation counter shared by all keys. A rebuild that started
+ * before an invalidation is discarded on the next read, so a slow rebuild can never resurrect data
+ * from before a commit. At most {@code maxEntries} keys are kept; past that, the cache starts over.
+ */
+public class JsonSnapshotCache<K> {
+
+    private final Function<K, ?> loader;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<K, JsonSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public JsonSnapshotCache(Function<K, ?> loader, ObjectMapper objectMapper, Duration ttl, int maxEntries, Clock clock) {
+        this.loader = loader;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public JsonSnapshot get(K key) {
+        JsonSnapshot snapshot = snapshots.get(key);
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+
+        if (snapshot == null && snapshots.size() >= maxEntries) {
+            snapshots.clear();
+        }
+
+        // compute() serializes concurrent rebuilds of the same key, so a burst of requests after an
+        // invalidation runs the loader once.
+        return snapshots.compute(key, (ignored, existing) -> isFresh(existing) ? existing : build(key));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private boolean isFresh(JsonSnapshot snapshot) {
+        return snapshot != null
+                && snapshot.generation() == generation.get()
+                && snapshot.builtAt().plus(ttl).isAfter(clock.instant());
+    }
+
+    private JsonSnapshot build(K key) {
+        long buildGeneration = generation.get();
+        Instant builtAt = clock.instant();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(loader.apply(key));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize snapshot", exception);
+        }
+        return new JsonSnapshot(body, etagFor(body), buildGeneration, builtAt);
+    }
+
+    private static String etagFor(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
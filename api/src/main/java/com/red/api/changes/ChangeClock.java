@@ -0,0 +1,26 @@
+package com.red.api.changes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The single row holding the last change sequence handed out to a slot or booking write.
+ */
+@Entity
+@Table(name = "change_clock")
+@Getter
+@Setter
+public class ChangeClock {
+
+    static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
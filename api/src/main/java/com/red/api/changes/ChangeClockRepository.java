@@ -0,0 +1,18 @@
+package com.red.api.changes;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ChangeClockRepository extends JpaRepository<ChangeClock, Integer> {
+
+    /**
+     * Advances the clock. The row stays locked until the calling transaction ends.
+     */
+    @Modifying
+    @Query("update ChangeClock c set c.lastSeq = c.lastSeq + 1 where c.id = " + ChangeClock.ID)
+    int advance();
+
+    @Query("select c.lastSeq from ChangeClock c where c.id = " + ChangeClock.ID)
+    long lastSeq();
+}
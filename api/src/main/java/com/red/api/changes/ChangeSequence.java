@@ -0,0 +1,80 @@
+package com.red.api.changes;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the {@code change_seq} stamped on every slot and booking write, so clients can ask for
+ * everything that changed after the last value they saw.
+ *
+ * <p>A transaction takes one value by advancing the {@code change_clock} row, and keeps that row
+ * locked until it commits. Writers therefore commit in sequence order, so once a value is visible
+ * every smaller one is too and a cursor never skips a late commit.
+ *
+ * <p>The clock is the last lock a writer takes: it checks its input and updates or locks its slot and
+ * booking rows first, then takes a value and stamps those rows with it. Requests that fail a check, such as
+ * a booking that loses the race for a slot, never queue on the clock, and the clock is held only
+ * for the stamping and the commit. Taking it last everywhere also keeps the lock order the same in
+ * every transaction, so writers cannot deadlock on it.
+ */
+@Component
+public class ChangeSequence {
+
+    private final ChangeClockRepository repository;
+    private final AtomicLong lastCommitted = new AtomicLong();
+
+    public ChangeSequence(ChangeClockRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * The sequence value for the current transaction. Call it after the transaction's slot and
+     * booking updates, then stamp the rows it wrote. Pending entity changes are flushed first so
+     * their row locks are taken before the clock's.
+     */
+    public long next() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("A change sequence can only be taken inside a transaction");
+        }
+
+        Long seq = (Long) TransactionSynchronizationManager.getResource(this);
+        if (seq != null) {
+            return seq;
+        }
+
+        repository.flush();
+        repository.advance();
+        long next = repository.lastSeq();
+        TransactionSynchronizationManager.bindResource(this, next);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastCommitted.accumulateAndGet(next, Math::max);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequence.this);
+            }
+        });
+        return next;
+    }
+
+    /**
+     * The highest committed sequence value. Every write stamped at or below it is visible.
+     */
+    public long current() {
+        return repository.lastSeq();
+    }
+
+    /**
+     * The highest sequence value committed by this instance, without a database round trip. A
+     * replica that has not reached it would hide this instance's own writes.
+     */
+    public long lastCommitted() {
+        return lastCommitted.get();
+    }
+}
@@ -1,18 +1,136 @@
 package com.red.api.config;
 
+import lombok.Builder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Bound from {@code app.*}. Code that builds one by hand (tests, benchmarks) should use {@link #builder()}
+ * and set only what it needs, so adding a property doesn't touch every caller.
+ */
+@Builder(toBuilder = true)
 @ConfigurationProperties(prefix = "app")
 public record AppProperties(
         String frontendBaseUrl,
         String mailFromAddress,
         String mailCopyAddress,
-        Admin admin
+        Admin admin,
+        @DefaultValue AvailabilityOptions availability,
+        @DefaultValue MailOutbox mailOutbox,
+        @DefaultValue MailTransport mailTransport,
+        @DefaultValue MailTemplates mailTemplates,
+        @DefaultValue AvailabilityStream availabilityStream,
+        @DefaultValue Replica replica,
+        @DefaultValue Idempotency idempotency,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue MailCopy mailCopy
 ) {
     public record Admin(
             String username,
             String password,
-            long sessionTtlMinutes
+            long sessionTtlMinutes,
+            String tokenSecret,
+            @DefaultValue("15s") Duration revocationRefreshInterval
+    ) {
+    }
+
+    public record AvailabilityOptions(
+            @DefaultValue("60s") Duration snapshotTtl,
+            @DefaultValue("42") int defaultWindowDays,
+            @DefaultValue("93") int maxWindowDays,
+            @DefaultValue("500") int maxResults
+    ) {
+    }
+
+    public record MailOutbox(
+            @DefaultValue("2") int concurrency,
+            @DefaultValue("20") int batchSize,
+            @DefaultValue("6") int maxAttempts,
+            @DefaultValue("30s") Duration initialBackoff,
+            @DefaultValue("30m") Duration maxBackoff,
+            @DefaultValue("15s") Duration pollInterval,
+            @DefaultValue("2m") Duration lease
+    ) {
+    }
+
+    public record MailTransport(
+            @DefaultValue("2") int poolSize,
+            @DefaultValue("30s") Duration validateAfter,
+            @DefaultValue("5m") Duration maxIdle
+    ) {
+    }
+
+    public record MailTemplates(
+            String overrideDir,
+            @DefaultValue("30s") Duration reloadInterval
+    ) {
+    }
+
+    public record AvailabilityStream(
+            @DefaultValue("25s") Duration heartbeatInterval,
+            @DefaultValue("30m") Duration timeout,
+            @DefaultValue("32") int bufferSize,
+            @DefaultValue("2000") int maxSubscribers
+    ) {
+    }
+
+    /**
+     * Optional read replica. Leave {@code url} blank to send every query to {@code spring.datasource}.
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("5") int maxPoolSize,
+            @DefaultValue("5s") Duration maxLag,
+            @DefaultValue("1s") Duration checkInterval
+    ) {
+    }
+
+    /**
+     * Responses kept for retried {@code Idempotency-Key} requests, per instance.
+     */
+    public record Idempotency(
+            @DefaultValue("24h") Duration ttl,
+            @DefaultValue("10000") int maxEntries,
+            @DefaultValue("10s") Duration inFlightWait
+    ) {
+    }
+
+    /**
+     * Limits on the unauthenticated endpoints: a token bucket per client IP and route, refilled at
+     * the given rate per minute and holding up to the given burst, and a cap on how many of their
+     * requests may run at once.
+     */
+    public record RateLimit(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("64") int maxInFlight,
+            @DefaultValue("600") int availabilityPerMinute,
+            @DefaultValue("60") int availabilityBurst,
+            @DefaultValue("6") int bookingsPerMinute,
+            @DefaultValue("5") int bookingsBurst,
+            @DefaultValue("12") int cancellationsPerMinute,
+            @DefaultValue("10") int cancellationsBurst,
+            @DefaultValue("50000") int maxClients
+    ) {
+    }
+
+    /**
+     * How {@code mailCopyAddress} hears about bookings: one summary per {@code digestCron} run
+     * (evaluated in {@code zone}), a BCC on every teacher email, or not at all.
+     */
+    public record MailCopy(
+            @DefaultValue("digest") Mode mode,
+            @DefaultValue("0 0 7 * * *") String digestCron,
+            @DefaultValue("America/Edmonton") ZoneId zone
     ) {
+        public enum Mode {
+            DIGEST,
+            EACH,
+            OFF
+        }
     }
 }
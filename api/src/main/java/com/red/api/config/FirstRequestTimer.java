@@ -0,0 +1,47 @@
+package com.red.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long after JVM start the first HTTP request finished, which is what a cold start
+ * costs the first visitor. Logged once and exported as {@code application.first_request.time}
+ * next to Spring Boot's {@code application.ready.time}.
+ */
+@Component
+public class FirstRequestTimer implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestTimer.class);
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (firstRequestMillis.get() >= 0) {
+            return;
+        }
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstRequestMillis.compareAndSet(-1, uptime)) {
+            log.info("First request ({} {}) completed {} ms after JVM start",
+                    event.getMethod(), event.getRequestUrl(), uptime);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("application.first_request.time", firstRequestMillis, TimeUnit.MILLISECONDS,
+                        millis -> millis.get() < 0 ? Double.NaN : millis.get())
+                .description("Time from JVM start until the first HTTP request completed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.red.api.config;
+
+import com.red.api.admin.AdminTokenDenylist;
+import com.red.api.availability.AvailabilityStreamService;
+import com.red.api.datasource.ReplicaLagMonitor;
+import com.red.api.notifications.EmailOutboxDispatcher;
+import com.red.api.notifications.MailDigestService;
+import com.red.api.ratelimit.PublicRateLimiter;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on, as it is in the
+ * container image. Hibernate (and with it Flyway and the connection pool) is built during startup
+ * so the first request does not pay for it, and the background workers start their schedules
+ * without waiting for something to look them up. Everything else, such as the admin controllers
+ * and email templates, is created on first use.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AbstractEntityManagerFactoryBean.class,
+                EmailOutboxDispatcher.class,
+                MailDigestService.class,
+                AdminTokenDenylist.class,
+                AvailabilityStreamService.class,
+                PublicRateLimiter.class,
+                ReplicaLagMonitor.class,
+                FirstRequestTimer.class);
+    }
+
+    /**
+     * AOT-processed builds decide at build time, without a replica, whether the replica data source
+     * exists, so a replica URL set at runtime would be silently ignored. Refuse to start instead.
+     */
+    @Bean
+    ApplicationListener<ApplicationStartedEvent> replicaNeedsRuntimeConditions(AppProperties appProperties) {
+        return event -> {
+            String replicaUrl = appProperties.replica() == null ? null : appProperties.replica().url();
+            if (AotDetector.useGeneratedArtifacts() && replicaUrl != null && !replicaUrl.isBlank()
+                    && !event.getApplicationContext().containsBean("replicaDataSource")) {
+                throw new IllegalStateException(
+                        "app.replica.url is set but this build's AOT bean definitions have no replica; "
+                                + "start without -Dspring.aot.enabled=true");
+            }
+        };
+    }
+}
@@ -2,7 +2,14 @@ package com.red.api.config;
 
 import com.red.api.admin.AdminAuthInterceptor;
 import com.red.api.admin.AdminAuthService;
+import com.red.api.datasource.ReplicaReadInterceptor;
+import com.red.api.idempotency.IdempotencyFilter;
+import com.red.api.idempotency.IdempotencyStore;
+import com.red.api.ratelimit.PublicRateLimitInterceptor;
+import com.red.api.ratelimit.PublicRateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -17,6 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AdminAuthService adminAuthService;
     private final AppProperties appProperties;
+    private final PublicRateLimiter publicRateLimiter;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -32,9 +40,13 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/availability")
                 .allowedOrigins(originsArray)
                 .allowedMethods("GET", "OPTIONS");
+        registry.addMapping("/availability/**")
+                .allowedOrigins(originsArray)
+                .allowedMethods("GET", "OPTIONS");
         registry.addMapping("/bookings/**")
                 .allowedOrigins(originsArray)
-                .allowedMethods("GET", "POST", "PATCH", "OPTIONS");
+                .allowedMethods("GET", "POST", "PATCH", "OPTIONS")
+                .exposedHeaders("Retry-After");
         registry.addMapping("/admin/**")
                 .allowedOrigins(originsArray)
                 .allowedMethods("GET", "POST", "PATCH", "DELETE", "OPTIONS");
@@ -48,5 +60,23 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(new AdminAuthInterceptor(adminAuthService))
                 .addPathPatterns("/admin/**")
                 .excludePathPatterns("/admin/auth/login");
+        if (publicRateLimiter.isEnabled()) {
+            // The availability stream is long-lived and capped by its own subscriber limit.
+            registry.addInterceptor(new PublicRateLimitInterceptor(publicRateLimiter))
+                    .addPathPatterns("/availability", "/availability/**", "/bookings", "/bookings/**")
+                    .excludePathPatterns("/availability/stream");
+        }
+        registry.addInterceptor(new ReplicaReadInterceptor());
+    }
+
+    /**
+     * Booking and cancellation POSTs are the ones a teacher retries after a timeout, and each
+     * attempt would otherwise claim a slot or send an email again.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore));
+        registration.addUrlPatterns("/bookings", "/bookings/cancellations/*");
+        return registration;
     }
 }
@@ -0,0 +1,145 @@
+package com.red.api.datasource;
+
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether the replica is fresh enough to serve reads by comparing the {@code change_clock}
+ * row on both databases every {@code checkInterval}. Lag is the time since the primary first showed
+ * a change the replica still lacks; above {@code maxLag}, or when the replica cannot be reached,
+ * reads fall back to the primary until it catches up.
+ *
+ * <p>The replica is also skipped until it has reached the last change committed by this instance,
+ * so a client reading right after its own write on the same instance never sees the old state.
+ */
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String LAST_SEQ = "select last_seq from change_clock where id = 1";
+    private static final int MAX_TRACKED = 1024;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ChangeSequence changeSequence;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Clock clock;
+    // Primary clock values the replica had not reached yet, with when each was first seen.
+    private final Deque<Observation> pending = new ArrayDeque<>();
+    private final ScheduledExecutorService checker;
+    private volatile long replicaSeq = -1;
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean fresh;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, ChangeSequence changeSequence,
+                             AppProperties appProperties) {
+        this(primary, replica, changeSequence, appProperties.replica(), Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(DataSource primary, DataSource replica, ChangeSequence changeSequence,
+                      AppProperties.Replica settings, Clock clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.changeSequence = changeSequence;
+        this.maxLag = settings.maxLag();
+        this.checkInterval = settings.checkInterval();
+        this.clock = clock;
+        this.checker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag").daemon().factory());
+    }
+
+    @PostConstruct
+    void start() {
+        long checkMillis = Math.max(100, checkInterval.toMillis());
+        checker.scheduleWithFixedDelay(this::checkQuietly, 0, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        checker.shutdownNow();
+    }
+
+    public boolean isReplicaUsable() {
+        return fresh && replicaSeq >= changeSequence.lastCommitted();
+    }
+
+    public Duration lag() {
+        return lag;
+    }
+
+    synchronized void check() {
+        Instant now = clock.instant();
+        long primarySeq;
+        long currentReplicaSeq;
+        try {
+            primarySeq = primary.queryForObject(LAST_SEQ, Long.class);
+            currentReplicaSeq = replica.queryForObject(LAST_SEQ, Long.class);
+        } catch (DataAccessException exception) {
+            if (fresh) {
+                log.warn("Reading from the primary; replica check failed: {}", exception.getMessage());
+            }
+            fresh = false;
+            return;
+        }
+
+        Observation newest = pending.peekLast();
+        if ((newest == null || primarySeq > newest.seq()) && pending.size() < MAX_TRACKED) {
+            pending.addLast(new Observation(primarySeq, now));
+        }
+        while (!pending.isEmpty() && pending.peekFirst().seq() <= currentReplicaSeq) {
+            pending.removeFirst();
+        }
+
+        Duration currentLag = pending.isEmpty() ? Duration.ZERO : Duration.between(pending.peekFirst().seenAt(), now);
+        boolean nowFresh = currentLag.compareTo(maxLag) <= 0;
+        if (fresh && !nowFresh) {
+            log.warn("Reading from the primary; replica is {} ms behind", currentLag.toMillis());
+        } else if (!fresh && nowFresh) {
+            log.info("Serving read-only requests from the replica");
+        }
+
+        replicaSeq = currentReplicaSeq;
+        lag = currentLag;
+        fresh = nowFresh;
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException exception) {
+            log.warn("Unable to check replica lag: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("datasource.replica.lag", this, TimeUnit.MILLISECONDS, monitor -> monitor.lag().toMillis())
+                .description("How far the read replica trails the primary")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("1 while read-only requests are served from the replica")
+                .register(registry);
+    }
+
+    private record Observation(long seq, Instant seenAt) {}
+}
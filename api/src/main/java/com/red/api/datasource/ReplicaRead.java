@@ -0,0 +1,18 @@
+package com.red.api.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a request handler whose queries may be served by the read replica when one is configured
+ * and fresh. Only for handlers that never write; queries inside a read-write transaction stay on
+ * the primary regardless.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,38 @@
+package com.red.api.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Flags the current thread while a {@link ReplicaRead} handler runs, so
+ * {@link ReplicaRoutingDataSource} knows its queries may go to the replica. Background work never
+ * passes through here and always reads from the primary.
+ */
+public class ReplicaReadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    static boolean isReplicaRead() {
+        return REPLICA_READ.get() != null;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method && method.hasMethodAnnotation(ReplicaRead.class)) {
+            REPLICA_READ.set(Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        REPLICA_READ.remove();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        REPLICA_READ.remove();
+    }
+}
@@ -0,0 +1,240 @@
+package com.red.api.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Makes POSTs that carry an {@code Idempotency-Key} header safe to retry. The first request with a
+ * key runs normally and its response is kept in the {@link IdempotencyStore}; later requests to the
+ * same path with the same key and body get that response back, marked with
+ * {@code Idempotent-Replayed: true}, without reaching the controller. Reusing a key for a different
+ * body is rejected with 422.
+ *
+ * <p>Client errors such as a 409 for a slot that is already taken are replayed too, since running
+ * the request again would give the same answer. Server errors and 429s from the rate limiter are
+ * not kept, so a retry after one runs again.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> UNREPLAYED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase());
+
+    private final IdempotencyStore store;
+
+    public IdempotencyFilter(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String scope = request.getRequestURI() + " " + key;
+        String fingerprint = fingerprint(body);
+
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(scope, fingerprint);
+            if (!claim.entry().matches(fingerprint)) {
+                response.sendError(422, HEADER + " was already used for a different request");
+                return;
+            }
+
+            if (claim.owner()) {
+                execute(claim.entry(), new CachedBodyRequest(request, body), response, chain);
+                return;
+            }
+
+            IdempotencyStore.StoredResponse stored;
+            try {
+                stored = store.await(claim.entry());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            if (!claim.entry().isReleased()) {
+                response.sendError(HttpServletResponse.SC_CONFLICT,
+                        "A request with this " + HEADER + " is still being processed");
+                return;
+            }
+            // The first request failed and gave up its key; try to claim it again.
+        }
+    }
+
+    private void execute(IdempotencyStore.Entry entry, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+        RecordingResponse recording = new RecordingResponse(response);
+        try {
+            chain.doFilter(request, recording);
+        } catch (ServletException | IOException | RuntimeException exception) {
+            store.release(entry);
+            throw exception;
+        }
+
+        if (recording.getStatus() >= 500 || recording.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            store.release(entry);
+        } else {
+            store.complete(entry, recording.toStoredResponse());
+        }
+        recording.copyBodyToResponse();
+    }
+
+    private static void replay(IdempotencyStore.StoredResponse stored, HttpServletResponse response) throws IOException {
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+
+        if (stored.errorMessage() != null) {
+            if (stored.errorMessage().isEmpty()) {
+                response.sendError(stored.status());
+            } else {
+                response.sendError(stored.status(), stored.errorMessage());
+            }
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    /**
+     * Buffers the handler's response so it can be stored, and remembers whether it ended with
+     * {@code sendError}, whose body is rendered later by the error page rather than by the handler.
+     */
+    private static final class RecordingResponse extends ContentCachingResponseWrapper {
+        private String errorMessage;
+
+        RecordingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            errorMessage = "";
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            errorMessage = message == null ? "" : message;
+            super.sendError(status, message);
+        }
+
+        IdempotencyStore.StoredResponse toStoredResponse() {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : getHeaderNames()) {
+                if (!UNREPLAYED_HEADERS.contains(name.toLowerCase()) && !headers.containsKey(name)) {
+                    headers.put(name, List.copyOf(getHeaders(name)));
+                }
+            }
+            byte[] body = errorMessage == null ? getContentAsByteArray() : new byte[0];
+            return new IdempotencyStore.StoredResponse(getStatus(), errorMessage, getContentType(), headers, body);
+        }
+    }
+
+    /**
+     * The request with its body already read, so it can be fingerprinted and still reach the
+     * controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.red.api.idempotency;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local record of requests sent with an {@code Idempotency-Key}, so a retry gets the first
+ * response back instead of running the handler again. The first request for a key claims it; a
+ * retry that arrives while the first is still running waits up to {@code inFlightWait} for its
+ * response.
+ *
+ * <p>Keys are kept for {@code ttl}, and at most {@code maxEntries} at once. Since every key lives
+ * for the same time, they expire in the order they were claimed, and when the store is full the
+ * oldest go first.
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Duration inFlightWait;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> claimOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong replays = new AtomicLong();
+
+    @Autowired
+    public IdempotencyStore(AppProperties appProperties) {
+        this(appProperties.idempotency(), Clock.systemUTC());
+    }
+
+    IdempotencyStore(AppProperties.Idempotency settings, Clock clock) {
+        this.ttl = settings == null || settings.ttl() == null ? Duration.ofHours(24) : settings.ttl();
+        this.maxEntries = settings == null || settings.maxEntries() <= 0 ? 10_000 : settings.maxEntries();
+        this.inFlightWait = settings == null || settings.inFlightWait() == null ? Duration.ofSeconds(10) : settings.inFlightWait();
+        this.clock = clock;
+    }
+
+    /**
+     * Claims {@code key} for the caller, or returns the entry of the request that claimed it first.
+     * {@code fingerprint} identifies the request body, so a key reused for different content can be
+     * told apart from a retry.
+     */
+    public Claim claim(String key, String fingerprint) {
+        Entry current = entries.get(key);
+        if (current != null && current.claimedAt.isAfter(clock.instant().minus(ttl))) {
+            return new Claim(current, false);
+        }
+
+        purge();
+        Entry candidate = new Entry(key, fingerprint, clock.instant());
+        Entry existing = entries.putIfAbsent(key, candidate);
+        if (existing != null) {
+            return new Claim(existing, false);
+        }
+        claimOrder.add(candidate);
+        return new Claim(candidate, true);
+    }
+
+    /**
+     * Stores the response of a request that claimed its key, and hands it to any retries waiting
+     * on it.
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.response.complete(response);
+    }
+
+    /**
+     * Forgets a claimed key whose request did not produce a response worth replaying, such as a
+     * server error or a 429. Waiting retries then run the request themselves.
+     */
+    public void release(Entry entry) {
+        entries.remove(entry.key, entry);
+        entry.released = true;
+        entry.response.complete(null);
+    }
+
+    /**
+     * The response stored for {@code entry}, waiting up to {@code inFlightWait} if its request is
+     * still running. Null if it is still running after that, or was released.
+     */
+    public StoredResponse await(Entry entry) throws InterruptedException {
+        try {
+            StoredResponse response = entry.response.get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+            if (response != null) {
+                replays.incrementAndGet();
+            }
+            return response;
+        } catch (TimeoutException exception) {
+            return null;
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void purge() {
+        Instant cutoff = clock.instant().minus(ttl);
+        Entry oldest;
+        while ((oldest = claimOrder.peek()) != null
+                && (entries.size() >= maxEntries || !oldest.claimedAt.isAfter(cutoff))) {
+            if (claimOrder.remove(oldest)) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("idempotency.keys", entries, Map::size)
+                .description("Idempotency keys currently remembered")
+                .register(registry);
+        FunctionCounter.builder("idempotency.replays", replays, AtomicLong::get)
+                .description("Retries answered with a stored response")
+                .register(registry);
+    }
+
+    public record Claim(Entry entry, boolean owner) {}
+
+    /**
+     * A response captured from the handler. {@code errorMessage} is set, and {@code body} is empty,
+     * when the handler ended with {@code sendError}, which the error page renders afterwards.
+     */
+    public record StoredResponse(
+            int status,
+            String errorMessage,
+            String contentType,
+            Map<String, List<String>> headers,
+            byte[] body
+    ) {}
+
+    public static final class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final Instant claimedAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private volatile boolean released;
+
+        private Entry(String key, String fingerprint, Instant claimedAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.claimedAt = claimedAt;
+        }
+
+        public boolean matches(String otherFingerprint) {
+            return fingerprint.equals(otherFingerprint);
+        }
+
+        public boolean isReleased() {
+            return released;
+        }
+    }
+}
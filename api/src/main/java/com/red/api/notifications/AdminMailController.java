@@ -0,0 +1,24 @@
+package com.red.api.notifications;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/mail")
+@RequiredArgsConstructor
+public class AdminMailController {
+
+    private final MailDigestService digestService;
+
+    public record DigestResult(int updates) {}
+
+    /**
+     * Sends the booking digest now instead of waiting for the next scheduled run.
+     */
+    @PostMapping("/digest")
+    public DigestResult sendDigest() {
+        return new DigestResult(digestService.sendDigest());
+    }
+}
@@ -0,0 +1,40 @@
+package com.red.api.notifications;
+
+/**
+ * Values a booking email template can refer to, written as {@code {{placeholder}}} in the
+ * template source. {@link #ACTIVITY} is not a value: it is where a template takes other rendered
+ * templates, such as the sections of a digest.
+ */
+public enum EmailField {
+    GREETING_NAME("greetingName"),
+    TEACHER("teacher"),
+    SCHOOL("school"),
+    PRESENTATION("presentation"),
+    LOCATION("location"),
+    SLOT("slot"),
+    CANCEL_LINK("cancelLink"),
+    ADMIN_LINK("adminLink"),
+    SECTION("section"),
+    DAY("day"),
+    CHANGE_COUNT("changeCount"),
+    ACTIVITY("activity");
+
+    private final String placeholder;
+
+    EmailField(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String placeholder() {
+        return placeholder;
+    }
+
+    static EmailField fromPlaceholder(String placeholder) {
+        for (EmailField field : values()) {
+            if (field.placeholder.equals(placeholder)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown email template placeholder {{" + placeholder + "}}");
+    }
+}
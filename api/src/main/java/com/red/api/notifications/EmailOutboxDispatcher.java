@@ -0,0 +1,266 @@
+package com.red.api.notifications;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers queued outbox messages in the background. Runs right after a transaction that queued
+ * mail commits and on a fixed poll as a safety net. A batch is split across at most
+ * {@code concurrency} sender threads, and each thread pushes its share through one pooled SMTP
+ * connection from {@link SmtpTransportPool}. Failed sends are retried with exponential backoff
+ * until {@code maxAttempts}, after which the message is parked as {@code dead} for manual follow-up.
+ * Each outcome is counted in {@code mail.outbox.deliveries}. Messages are BCC'd to
+ * {@code mailCopyAddress} only when the copy mode is {@code each}; otherwise that address gets
+ * {@link MailDigestService}'s summary instead.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository repository;
+    private final SmtpTransportPool transportPool;
+    private final AppProperties appProperties;
+    private final AppProperties.MailOutbox settings;
+    private final boolean copyEachEmail;
+    private final ScheduledExecutorService coordinator;
+    private final ExecutorService senders;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository repository,
+                                 SmtpTransportPool transportPool,
+                                 AppProperties appProperties,
+                                 MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transportPool = transportPool;
+        this.appProperties = appProperties;
+        this.settings = appProperties.mailOutbox();
+        this.copyEachEmail = appProperties.mailCopy() != null
+                && appProperties.mailCopy().mode() == AppProperties.MailCopy.Mode.EACH;
+        this.coordinator = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("email-outbox").daemon().factory());
+        this.senders = Executors.newFixedThreadPool(
+                Math.max(1, settings.concurrency()),
+                Thread.ofPlatform().name("email-sender-", 0).daemon().factory());
+        this.sentCounter = deliveryCounter(meterRegistry, "sent");
+        this.retryCounter = deliveryCounter(meterRegistry, "retry");
+        this.deadCounter = deliveryCounter(meterRegistry, "dead");
+    }
+
+    @PostConstruct
+    void start() {
+        long pollMillis = settings.pollInterval().toMillis();
+        coordinator.scheduleWithFixedDelay(this::requestDispatch, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        coordinator.shutdownNow();
+        senders.shutdown();
+        if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmailQueued(EmailQueuedEvent event) {
+        requestDispatch();
+    }
+
+    /**
+     * Asks the coordinator thread to drain the outbox. Calls made while a drain is in progress are
+     * coalesced into one more pass once it finishes.
+     */
+    public void requestDispatch() {
+        rerun.set(true);
+        if (running.compareAndSet(false, true)) {
+            coordinator.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (rerun.getAndSet(false)) {
+                while (dispatchBatch() >= settings.batchSize()) {
+                    // keep going while full batches are due
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.error("Email outbox dispatch failed: {}", exception.getMessage(), exception);
+        } finally {
+            running.set(false);
+        }
+
+        if (rerun.get()) {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch of due messages. Returns how many messages were due so the
+     * caller can tell whether more are waiting.
+     */
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = repository.findDueIds(now, Limit.of(settings.batchSize()));
+        if (dueIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime leaseUntil = now.plus(settings.lease());
+        List<Long> claimedIds = dueIds.stream()
+                .filter(id -> repository.claim(id, now, leaseUntil) == 1)
+                .toList();
+        if (claimedIds.isEmpty()) {
+            return dueIds.size();
+        }
+
+        List<Callable<Void>> deliveries = partition(repository.findAllById(claimedIds))
+                .stream()
+                .map(chunk -> (Callable<Void>) () -> {
+                    deliver(chunk);
+                    return null;
+                })
+                .toList();
+
+        try {
+            senders.invokeAll(deliveries);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return dueIds.size();
+    }
+
+    private List<List<EmailOutboxMessage>> partition(List<EmailOutboxMessage> messages) {
+        int chunks = Math.min(Math.max(1, settings.concurrency()), messages.size());
+        List<List<EmailOutboxMessage>> partitions = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            partitions.get(i % chunks).add(messages.get(i));
+        }
+        return partitions;
+    }
+
+    private void deliver(List<EmailOutboxMessage> chunk) {
+        List<EmailOutboxMessage> sendable = new ArrayList<>(chunk.size());
+        List<MimeMessage> mimeMessages = new ArrayList<>(chunk.size());
+        for (EmailOutboxMessage message : chunk) {
+            try {
+                mimeMessages.add(toMimeMessage(message));
+                sendable.add(message);
+            } catch (MessagingException | RuntimeException exception) {
+                markFailed(message, exception);
+            }
+        }
+
+        List<MailSendResult> results = transportPool.sendBatch(mimeMessages);
+        for (int i = 0; i < sendable.size(); i++) {
+            MailSendResult result = results.get(i);
+            if (result.delivered()) {
+                markSent(sendable.get(i));
+            } else {
+                markFailed(sendable.get(i), result.failure());
+            }
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage outboxMessage) throws MessagingException {
+        MimeMessage mimeMessage = transportPool.createMimeMessage();
+        boolean hasHtml = outboxMessage.getHtmlBody() != null;
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, hasHtml, "UTF-8");
+        message.setFrom(appProperties.mailFromAddress());
+        message.setTo(outboxMessage.getRecipient());
+        String copyAddress = copyEachEmail
+                ? Optional.ofNullable(appProperties.mailCopyAddress()).filter(copy -> !copy.isBlank()).orElse(null)
+                : null;
+        if (copyAddress != null) {
+            message.setBcc(copyAddress);
+        }
+        message.setSubject(outboxMessage.getSubject());
+        if (hasHtml) {
+            message.setText(outboxMessage.getBody(), outboxMessage.getHtmlBody());
+        } else {
+            message.setText(outboxMessage.getBody());
+        }
+        return mimeMessage;
+    }
+
+    private void markSent(EmailOutboxMessage message) {
+        message.setAttempts(message.getAttempts() + 1);
+        message.setStatus("sent");
+        message.setSentAt(LocalDateTime.now());
+        message.setLastError(null);
+        repository.save(message);
+        sentCounter.increment();
+    }
+
+    private void markFailed(EmailOutboxMessage message, Exception exception) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(truncate(exception.getMessage()));
+
+        if (attempts >= settings.maxAttempts()) {
+            message.setStatus("dead");
+            deadCounter.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    message.getId(), message.getRecipient(), attempts, exception.getMessage());
+        } else {
+            Duration delay = backoff(attempts);
+            message.setStatus("pending");
+            retryCounter.increment();
+            message.setNextAttemptAt(LocalDateTime.now().plus(delay));
+            log.warn("Failed to send email {} to {} (attempt {}), retrying in {}: {}",
+                    message.getId(), message.getRecipient(), attempts, delay, exception.getMessage());
+        }
+        repository.save(message);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = settings.initialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(settings.maxBackoff()) > 0 ? settings.maxBackoff() : delay;
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mail.outbox.deliveries")
+                .description("Outbox delivery attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,38 @@
+package com.red.api.notifications;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Ids of messages that are ready to send. A message left in {@code sending} by an instance that
+     * died mid-delivery becomes due again once its lease expires.
+     */
+    @Query("""
+            select m.id from EmailOutboxMessage m
+            where m.status in ('pending', 'sending') and m.nextAttemptAt <= :now
+            order by m.nextAttemptAt
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Claims a due message for delivery by moving its next attempt past the lease. Returns 0 when
+     * another dispatcher claimed it first.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update EmailOutboxMessage m
+            set m.status = 'sending', m.nextAttemptAt = :leaseUntil
+            where m.id = :id and m.status in ('pending', 'sending') and m.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,8 @@
+package com.red.api.notifications;
+
+/**
+ * Published when a message is written to the outbox so the dispatcher can deliver it as soon as
+ * the surrounding transaction commits instead of waiting for the next poll.
+ */
+public record EmailQueuedEvent(Long messageId) {
+}
@@ -5,153 +5,164 @@ import com.red.api.config.AppProperties;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Renders booking notifications from {@link EmailTemplates} and writes them to the email outbox in
+ * the caller's transaction. Delivery happens after commit in {@link EmailOutboxDispatcher}, so SMTP
+ * latency never holds a database connection or a request thread.
+ */
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final AppProperties appProperties;
+    private final EmailTemplates templates;
 
-    public void sendBookingPendingEmail(Booking booking) {
-        String subject = "[RED] Booking request received";
-        String body = """
-                Hello %s,
-
-                Thanks for submitting a RED presentation request. Our team will review the details and get back to you shortly.
-
-                Booking details:
-                  • Teacher: %s
-                  • School: %s
-                  • Presentation: %s
-                  • Location: %s
-                  • Requested slot: %s
-
-                If you need to cancel this request, you can do so at any time with the link below:
-                %s
-
-                We'll follow up within 48 hours to confirm next steps.
-
-                Please do not reply to this email. If you need to reach us, email reducalgary@gmail.com.
+    private volatile String cancellationBaseUrl;
 
-                — The RED Team
-                """.formatted(
-                Optional.ofNullable(booking.getName()).orElse("there"),
-                Optional.ofNullable(booking.getName()).orElse("N/A"),
-                Optional.ofNullable(booking.getSchool()).orElse("N/A"),
-                Optional.ofNullable(booking.getPresentationType()).orElse("N/A"),
-                Optional.ofNullable(booking.getLocation()).orElse("To be determined"),
-                Optional.ofNullable(booking.getSlotLabel()).orElse("To be scheduled"),
-                buildCancellationLink(booking)
-        );
-
-        sendEmail(booking.getEmail(), subject, body);
+    public void sendBookingPendingEmail(Booking booking) {
+        sendEmail(booking.getEmail(), templates.render(
+                EmailTemplates.BOOKING_PENDING, "[RED] Booking request received", valuesFor(booking, true)));
     }
 
     public void sendBookingConfirmedEmail(Booking booking) {
-        String subject = "[RED] Booking confirmed";
-        String body = """
-                Hello %s,
-
-                Great news — your RED presentation request has been confirmed.
-
-                Booking details:
-                  • Teacher: %s
-                  • School: %s
-                  • Presentation: %s
-                  • Location: %s
-                  • Scheduled slot: %s
-
-                If anything changes, you can still cancel using the link below:
-                %s
-
-                Please do not reply to this email. If you need to reach us, email reducalgary@gmail.com.
-
-                We look forward to meeting your class!
-
-                — The RED Team
-                """.formatted(
-                Optional.ofNullable(booking.getName()).orElse("there"),
-                Optional.ofNullable(booking.getName()).orElse("N/A"),
-                Optional.ofNullable(booking.getSchool()).orElse("N/A"),
-                Optional.ofNullable(booking.getPresentationType()).orElse("N/A"),
-                Optional.ofNullable(booking.getLocation()).orElse("To be determined"),
-                Optional.ofNullable(booking.getSlotLabel()).orElse("To be scheduled"),
-                buildCancellationLink(booking)
-        );
-
-        sendEmail(booking.getEmail(), subject, body);
+        sendEmail(booking.getEmail(), confirmedEmail(booking));
     }
 
     public void sendBookingRejectedEmail(Booking booking) {
-        String subject = "[RED] Booking request update";
-        String body = """
-                Hello %s,
+        sendEmail(booking.getEmail(), rejectedEmail(booking));
+    }
 
-                Thanks for your interest in a RED presentation. Unfortunately we’re unable to accommodate the requested time.
+    public void sendBookingCancelledEmail(Booking booking) {
+        sendEmail(booking.getEmail(), cancelledEmail(booking));
+    }
 
-                Booking details:
-                  • Teacher: %s
-                  • School: %s
-                  • Presentation: %s
-                  • Requested slot: %s
+    /**
+     * Queues the notification matching each booking's current status (confirmed, rejected or
+     * cancelled) with one batched outbox insert. Bookings in any other status get no email.
+     */
+    public void sendBookingStatusEmails(List<Booking> bookings) {
+        List<EmailOutboxMessage> messages = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            RenderedEmail email = switch (booking.getStatus()) {
+                case "confirmed" -> confirmedEmail(booking);
+                case "rejected" -> rejectedEmail(booking);
+                case "cancelled" -> cancelledEmail(booking);
+                default -> null;
+            };
+            if (email != null) {
+                EmailOutboxMessage message = toOutboxMessage(booking.getEmail(), email);
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+        }
 
-                Please reach out at reducalgary@gmail.com if you'd like to explore alternate times.
+        for (EmailOutboxMessage saved : outboxRepository.saveAll(messages)) {
+            eventPublisher.publishEvent(new EmailQueuedEvent(saved.getId()));
+        }
+    }
 
-                Please do not reply to this email.
+    /**
+     * Queues a booking digest for {@code mailCopyAddress} covering {@code changes} status changes.
+     * {@code sections} maps each section title to its changes by day label, both in display order;
+     * empty sections are left out.
+     */
+    public void sendBookingDigestEmail(int changes, Map<String, Map<String, List<MailDigestEvent>>> sections) {
+        List<RenderedEmail> renderedSections = new ArrayList<>();
+        sections.forEach((section, days) -> {
+            List<RenderedEmail> renderedDays = new ArrayList<>();
+            int sectionChanges = 0;
+            for (Map.Entry<String, List<MailDigestEvent>> day : days.entrySet()) {
+                List<RenderedEmail> entries = day.getValue().stream()
+                        .map(event -> templates.render(EmailTemplates.BOOKING_DIGEST_ENTRY, null, valuesFor(event)))
+                        .toList();
+                renderedDays.add(templates.render(
+                        EmailTemplates.BOOKING_DIGEST_DAY, null, Map.of(EmailField.DAY, day.getKey()), entries));
+                sectionChanges += entries.size();
+            }
+            if (sectionChanges > 0) {
+                renderedSections.add(templates.render(EmailTemplates.BOOKING_DIGEST_SECTION, null, Map.of(
+                        EmailField.SECTION, section,
+                        EmailField.CHANGE_COUNT, Integer.toString(sectionChanges)), renderedDays));
+            }
+        });
 
-                — The RED Team
-                """.formatted(
-                Optional.ofNullable(booking.getName()).orElse("there"),
-                Optional.ofNullable(booking.getName()).orElse("N/A"),
-                Optional.ofNullable(booking.getSchool()).orElse("N/A"),
-                Optional.ofNullable(booking.getPresentationType()).orElse("N/A"),
-                Optional.ofNullable(booking.getSlotLabel()).orElse("To be scheduled")
-        );
+        String subject = "[RED] Booking digest: " + changes + (changes == 1 ? " update" : " updates");
+        sendEmail(appProperties.mailCopyAddress(), templates.render(EmailTemplates.BOOKING_DIGEST, subject, Map.of(
+                EmailField.ADMIN_LINK, cancellationBaseUrl() + "/admin",
+                EmailField.CHANGE_COUNT, Integer.toString(changes)), renderedSections));
+    }
 
-        sendEmail(booking.getEmail(), subject, body);
+    private RenderedEmail confirmedEmail(Booking booking) {
+        return templates.render(
+                EmailTemplates.BOOKING_CONFIRMED, "[RED] Booking confirmed", valuesFor(booking, true));
     }
 
-    public void sendBookingCancelledEmail(Booking booking) {
-        String subject = "[RED] Booking cancellation confirmed";
-        String body = """
-                Hello %s,
+    private RenderedEmail rejectedEmail(Booking booking) {
+        return templates.render(
+                EmailTemplates.BOOKING_REJECTED, "[RED] Booking request update", valuesFor(booking, false));
+    }
 
-                Your booking request has been cancelled. If this was a mistake, feel free to submit a new request on our website.
+    private RenderedEmail cancelledEmail(Booking booking) {
+        return templates.render(
+                EmailTemplates.BOOKING_CANCELLED, "[RED] Booking cancellation confirmed", valuesFor(booking, false));
+    }
 
-                Cancelled request details:
-                  • Teacher: %s
-                  • School: %s
-                  • Presentation: %s
-                  • Original slot: %s
+    private Map<EmailField, String> valuesFor(Booking booking, boolean includeCancellationLink) {
+        Map<EmailField, String> values = new EnumMap<>(EmailField.class);
+        values.put(EmailField.GREETING_NAME, orDefault(booking.getName(), "there"));
+        values.put(EmailField.TEACHER, orDefault(booking.getName(), "N/A"));
+        values.put(EmailField.SCHOOL, orDefault(booking.getSchool(), "N/A"));
+        values.put(EmailField.PRESENTATION, orDefault(booking.getPresentationType(), "N/A"));
+        values.put(EmailField.LOCATION, orDefault(booking.getLocation(), "To be determined"));
+        values.put(EmailField.SLOT, orDefault(booking.getSlotLabel(), "To be scheduled"));
+        if (includeCancellationLink) {
+            values.put(EmailField.CANCEL_LINK, buildCancellationLink(booking));
+        }
+        return values;
+    }
 
-                Please do not reply to this email. If you need to reach us, email reducalgary@gmail.com.
+    private static Map<EmailField, String> valuesFor(MailDigestEvent event) {
+        Map<EmailField, String> values = new EnumMap<>(EmailField.class);
+        values.put(EmailField.TEACHER, event.getTeacherName());
+        values.put(EmailField.SCHOOL, event.getSchool());
+        values.put(EmailField.PRESENTATION, event.getPresentationType());
+        values.put(EmailField.SLOT, event.getSlotLabel());
+        return values;
+    }
 
-                — The RED Team
-                """.formatted(
-                Optional.ofNullable(booking.getName()).orElse("there"),
-                Optional.ofNullable(booking.getName()).orElse("N/A"),
-                Optional.ofNullable(booking.getSchool()).orElse("N/A"),
-                Optional.ofNullable(booking.getPresentationType()).orElse("N/A"),
-                Optional.ofNullable(booking.getSlotLabel()).orElse("To be scheduled")
-        );
+    private static String orDefault(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
 
-        sendEmail(booking.getEmail(), subject, body);
+    private void sendEmail(String to, RenderedEmail email) {
+        EmailOutboxMessage message = toOutboxMessage(to, email);
+        if (message == null) {
+            return;
+        }
+
+        EmailOutboxMessage saved = outboxRepository.save(message);
+        eventPublisher.publishEvent(new EmailQueuedEvent(saved.getId()));
     }
 
-    private void sendEmail(String to, String subject, String body) {
+    private EmailOutboxMessage toOutboxMessage(String to, RenderedEmail email) {
         if (to == null || to.isBlank()) {
-            return;
+            return null;
         }
 
         String fromAddress = Optional.ofNullable(appProperties.mailFromAddress())
@@ -160,34 +171,32 @@ public class EmailService {
 
         if (fromAddress == null) {
             log.warn("Skipping email to {} because the from address is not configured", to);
-            return;
+            return null;
         }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromAddress);
-        message.setTo(to);
-        Optional.ofNullable(appProperties.mailCopyAddress())
-                .filter(copy -> !copy.isBlank())
-                .ifPresent(copy -> message.setBcc(copy));
-        message.setSubject(subject);
-        message.setText(body);
-
-        try {
-            mailSender.send(message);
-        } catch (MailException exception) {
-            // Log but swallow so that a transient mail issue doesn't break the workflow
-            // (this keeps the user experience smooth while still surfacing errors in server logs)
-            log.error("Failed to send email to {}: {}", to, exception.getMessage());
-        }
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(to);
+        message.setSubject(email.subject());
+        message.setBody(email.text());
+        message.setHtmlBody(email.html());
+        return message;
     }
 
     private String buildCancellationLink(Booking booking) {
-        String baseUrl = Optional.ofNullable(appProperties.frontendBaseUrl())
-                .map(url -> url.replaceAll("/+$", ""))
-                .orElse("http://localhost:3000");
+        return cancellationBaseUrl() + "/cancel?token=" + booking.getCancellationToken();
+    }
 
-        String normalisedBaseUrl = normaliseBaseUrl(baseUrl);
-        return normalisedBaseUrl + "/cancel?token=" + booking.getCancellationToken();
+    private String cancellationBaseUrl() {
+        // The frontend URL is fixed configuration, so normalise it once rather than per email.
+        String normalised = cancellationBaseUrl;
+        if (normalised == null) {
+            String baseUrl = Optional.ofNullable(appProperties.frontendBaseUrl())
+                    .map(url -> url.replaceAll("/+$", ""))
+                    .orElse("http://localhost:3000");
+            normalised = normaliseBaseUrl(baseUrl);
+            cancellationBaseUrl = normalised;
+        }
+        return normalised;
     }
 
     private String normaliseBaseUrl(String baseUrl) {
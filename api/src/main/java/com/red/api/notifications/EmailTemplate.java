@@ -0,0 +1,92 @@
+package com.red.api.notifications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template parsed once into literal text and {@link EmailField} slots. Rendering is a straight
+ * walk over the parts with no parsing, lookups by name or intermediate strings.
+ */
+final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final EmailField[] fields;
+    private final boolean html;
+
+    private EmailTemplate(String[] literals, EmailField[] fields, boolean html) {
+        this.literals = literals;
+        this.fields = fields;
+        this.html = html;
+    }
+
+    /**
+     * Parses {@code source}. Unknown or unterminated placeholders are rejected here so a broken
+     * template fails at load time rather than when mail is sent.
+     */
+    static EmailTemplate parse(String source, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<EmailField> fields = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            fields.add(EmailField.fromPlaceholder(source.substring(open + OPEN.length(), close).strip()));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new EmailTemplate(literals.toArray(String[]::new), fields.toArray(EmailField[]::new), html);
+    }
+
+    void renderTo(Map<EmailField, String> values, StringBuilder out) {
+        renderTo(values, null, out);
+    }
+
+    /**
+     * Renders with {@code activity}, already rendered in this template's format, copied unescaped
+     * in place of {@link EmailField#ACTIVITY}.
+     */
+    void renderTo(Map<EmailField, String> values, String activity, StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            if (fields[i] == EmailField.ACTIVITY) {
+                if (activity != null) {
+                    out.append(activity);
+                }
+                continue;
+            }
+            String value = values.get(fields[i]);
+            if (value != null) {
+                if (html) {
+                    appendEscaped(value, out);
+                } else {
+                    out.append(value);
+                }
+            }
+        }
+        out.append(literals[fields.length]);
+    }
+
+    private static void appendEscaped(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
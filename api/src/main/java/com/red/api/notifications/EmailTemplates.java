@@ -0,0 +1,189 @@
+package com.red.api.notifications;
+
+import com.red.api.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads and parses the booking email templates once, then renders them into per-thread buffers.
+ * Each template has a plain-text ({@code .txt}) and an HTML ({@code .html}) variant, bundled under
+ * {@code classpath:email/templates}.
+ *
+ * <p>When {@code app.mail-templates.override-dir} is set, a file with the same name in that
+ * directory replaces the bundled one. The directory is checked at most once per
+ * {@code reloadInterval}, and changed files are reparsed without a restart. If an edited file does
+ * not parse, the previous templates stay in use.
+ */
+@Component
+public class EmailTemplates {
+
+    public static final String BOOKING_PENDING = "booking-pending";
+    public static final String BOOKING_CONFIRMED = "booking-confirmed";
+    public static final String BOOKING_REJECTED = "booking-rejected";
+    public static final String BOOKING_CANCELLED = "booking-cancelled";
+    public static final String BOOKING_DIGEST = "booking-digest";
+    public static final String BOOKING_DIGEST_SECTION = "booking-digest-section";
+    public static final String BOOKING_DIGEST_DAY = "booking-digest-day";
+    public static final String BOOKING_DIGEST_ENTRY = "booking-digest-entry";
+
+    private static final Logger log = LoggerFactory.getLogger(EmailTemplates.class);
+    private static final List<String> NAMES = List.of(
+            BOOKING_PENDING, BOOKING_CONFIRMED, BOOKING_REJECTED, BOOKING_CANCELLED,
+            BOOKING_DIGEST, BOOKING_DIGEST_SECTION, BOOKING_DIGEST_DAY, BOOKING_DIGEST_ENTRY);
+    private static final String CLASSPATH_DIR = "email/templates/";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Path overrideDir;
+    private final long reloadIntervalNanos;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private volatile Map<String, TemplatePair> templates;
+    private volatile Map<Path, FileTime> overrideVersions;
+    private volatile long nextCheckNanos;
+
+    public EmailTemplates(AppProperties appProperties) {
+        AppProperties.MailTemplates settings = appProperties.mailTemplates();
+        String dir = settings == null ? null : settings.overrideDir();
+        this.overrideDir = dir == null || dir.isBlank() ? null : Path.of(dir);
+        this.reloadIntervalNanos = settings == null ? 0 : settings.reloadInterval().toNanos();
+        this.overrideVersions = overrideVersions();
+        this.templates = load();
+        this.nextCheckNanos = System.nanoTime() + reloadIntervalNanos;
+    }
+
+    public RenderedEmail render(String name, String subject, Map<EmailField, String> values) {
+        reloadIfDue();
+        TemplatePair pair = templates.get(name);
+        if (pair == null) {
+            throw new IllegalArgumentException("Unknown email template " + name);
+        }
+        return new RenderedEmail(subject, render(pair.text(), values, null), render(pair.html(), values, null));
+    }
+
+    /**
+     * Renders {@code name} with the given parts, in order, in place of its {@code {{activity}}}:
+     * their text in the text variant and their HTML in the HTML one. This is how a list is built,
+     * e.g. a digest renders each entry, wraps the entries of a day, then the days of a section.
+     */
+    public RenderedEmail render(String name, String subject, Map<EmailField, String> values, List<RenderedEmail> activity) {
+        reloadIfDue();
+        TemplatePair pair = templates.get(name);
+        if (pair == null) {
+            throw new IllegalArgumentException("Unknown email template " + name);
+        }
+        String text = activity.stream().map(RenderedEmail::text).collect(Collectors.joining());
+        String html = activity.stream().map(RenderedEmail::html).collect(Collectors.joining());
+        return new RenderedEmail(subject, render(pair.text(), values, text), render(pair.html(), values, html));
+    }
+
+    private String render(EmailTemplate template, Map<EmailField, String> values, String activity) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        template.renderTo(values, activity, buffer);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    private void reloadIfDue() {
+        if (overrideDir == null || System.nanoTime() - nextCheckNanos < 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (System.nanoTime() - nextCheckNanos < 0) {
+                return;
+            }
+            nextCheckNanos = System.nanoTime() + reloadIntervalNanos;
+
+            Map<Path, FileTime> current = overrideVersions();
+            if (current.equals(overrideVersions)) {
+                return;
+            }
+
+            try {
+                templates = load();
+                log.info("Reloaded email templates from {}", overrideDir);
+            } catch (RuntimeException exception) {
+                log.error("Keeping previous email templates; reload from {} failed: {}",
+                        overrideDir, exception.getMessage());
+            }
+            overrideVersions = current;
+        }
+    }
+
+    private Map<String, TemplatePair> load() {
+        Map<String, TemplatePair> loaded = new HashMap<>();
+        for (String name : NAMES) {
+            loaded.put(name, new TemplatePair(
+                    parse(name + ".txt", false),
+                    parse(name + ".html", true)
+            ));
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private EmailTemplate parse(String fileName, boolean html) {
+        try {
+            return EmailTemplate.parse(read(fileName), html);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Invalid email template " + fileName + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    private String read(String fileName) {
+        try {
+            if (overrideDir != null) {
+                Path override = overrideDir.resolve(fileName);
+                if (Files.isRegularFile(override)) {
+                    return Files.readString(override, StandardCharsets.UTF_8);
+                }
+            }
+            try (InputStream input = new ClassPathResource(CLASSPATH_DIR + fileName).getInputStream()) {
+                return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read email template " + fileName, exception);
+        }
+    }
+
+    private Map<Path, FileTime> overrideVersions() {
+        if (overrideDir == null) {
+            return Map.of();
+        }
+
+        Map<Path, FileTime> versions = new HashMap<>();
+        for (String name : NAMES) {
+            for (String fileName : List.of(name + ".txt", name + ".html")) {
+                Path file = overrideDir.resolve(fileName);
+                try {
+                    if (Files.isRegularFile(file)) {
+                        versions.put(file, Files.getLastModifiedTime(file));
+                    }
+                } catch (IOException exception) {
+                    log.debug("Unable to stat {}: {}", file, exception.getMessage());
+                }
+            }
+        }
+        return versions;
+    }
+
+    private record TemplatePair(EmailTemplate text, EmailTemplate html) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.red.api.notifications;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One booking status change waiting for the next admin digest. The booking's details are copied
+ * in so the digest reads as things stood at the time, even if the booking changes again later.
+ */
+@Entity
+@Table(name = "mail_digest_event")
+@Getter
+@Setter
+public class MailDigestEvent {
+    // Sequence ids let bulk status changes record their events as one batched insert.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_digest_event_seq")
+    @SequenceGenerator(name = "mail_digest_event_seq", sequenceName = "mail_digest_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "previous_status")
+    private String previousStatus;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "teacher_name", nullable = false)
+    private String teacherName;
+
+    @Column(nullable = false)
+    private String school;
+
+    @Column(name = "presentation_type", nullable = false)
+    private String presentationType;
+
+    @Column(name = "slot_label", columnDefinition = "text", nullable = false)
+    private String slotLabel;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,26 @@
+package com.red.api.notifications;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailDigestEventRepository extends JpaRepository<MailDigestEvent, Long> {
+
+    /**
+     * Every event up to {@code until}, oldest first, locked until the transaction ends. A run on
+     * another instance waits for the locks and then finds the rows already deleted, so the same
+     * events are never sent twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from MailDigestEvent e
+            where e.occurredAt <= :until
+            order by e.occurredAt, e.id
+            """)
+    List<MailDigestEvent> findUpToForUpdate(@Param("until") LocalDateTime until);
+}
@@ -0,0 +1,167 @@
+package com.red.api.notifications;
+
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.booking.BookingStatusChangedEvent;
+import com.red.api.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sends {@code mailCopyAddress} one summary of booking activity per {@code digestCron} run instead
+ * of a BCC on every teacher email. Status changes are recorded in {@code mail_digest_event} in the
+ * same transaction as the change itself, so a rolled-back booking never shows up. Each run queues a
+ * single outbox message, rendered from the {@code booking-digest} templates and grouped by status
+ * and day, and deletes the rows it covered in one short transaction; delivery and its retries are
+ * left to the outbox. A run that finds nothing sends nothing.
+ */
+@Service
+public class MailDigestService {
+
+    private static final Logger log = LoggerFactory.getLogger(MailDigestService.class);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEEE, MMMM d", Locale.CANADA);
+
+    private final MailDigestEventRepository events;
+    private final BookingRepository bookingRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final ZoneId zone;
+    private final Clock clock;
+
+    @Autowired
+    public MailDigestService(MailDigestEventRepository events,
+                             BookingRepository bookingRepository,
+                             EmailService emailService,
+                             PlatformTransactionManager transactionManager,
+                             AppProperties appProperties) {
+        this(events, bookingRepository, emailService, transactionManager, appProperties, Clock.systemDefaultZone());
+    }
+
+    MailDigestService(MailDigestEventRepository events,
+                      BookingRepository bookingRepository,
+                      EmailService emailService,
+                      PlatformTransactionManager transactionManager,
+                      AppProperties appProperties,
+                      Clock clock) {
+        AppProperties.MailCopy settings = appProperties.mailCopy();
+        String copyAddress = appProperties.mailCopyAddress();
+        this.events = events;
+        this.bookingRepository = bookingRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = settings != null
+                && settings.mode() == AppProperties.MailCopy.Mode.DIGEST
+                && copyAddress != null && !copyAddress.isBlank();
+        this.zone = settings == null ? clock.getZone() : settings.zone();
+        this.clock = clock;
+    }
+
+    /**
+     * Records the change for the next digest. Runs synchronously inside the publisher's
+     * transaction, where the booking is already loaded.
+     */
+    @EventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        bookingRepository.findById(event.bookingId()).ifPresent(booking -> events.save(toEvent(booking, event)));
+    }
+
+    @Scheduled(cron = "${app.mail-copy.digest-cron:0 0 7 * * *}", zone = "${app.mail-copy.zone:America/Edmonton}")
+    void sendScheduledDigest() {
+        sendDigest();
+    }
+
+    /**
+     * Queues a digest of everything recorded so far. Returns how many status changes it covered.
+     */
+    public int sendDigest() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime until = LocalDateTime.now(clock);
+        Integer covered = transactionTemplate.execute(status -> {
+            List<MailDigestEvent> pending = events.findUpToForUpdate(until);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            emailService.sendBookingDigestEmail(pending.size(), group(pending));
+            events.deleteAllInBatch(pending);
+            return pending.size();
+        });
+        if (covered != null && covered > 0) {
+            log.info("Queued booking digest covering {} status changes", covered);
+        }
+        return covered == null ? 0 : covered;
+    }
+
+    private MailDigestEvent toEvent(Booking booking, BookingStatusChangedEvent event) {
+        MailDigestEvent digestEvent = new MailDigestEvent();
+        digestEvent.setBookingId(booking.getId());
+        digestEvent.setPreviousStatus(event.previousStatus());
+        digestEvent.setStatus(event.status());
+        digestEvent.setTeacherName(booking.getName());
+        digestEvent.setSchool(booking.getSchool());
+        digestEvent.setPresentationType(booking.getPresentationType());
+        digestEvent.setSlotLabel(booking.getSlotLabel());
+        digestEvent.setOccurredAt(LocalDateTime.now(clock));
+        return digestEvent;
+    }
+
+    private Map<String, Map<String, List<MailDigestEvent>>> group(List<MailDigestEvent> pending) {
+        Map<String, Map<LocalDate, List<MailDigestEvent>>> sections = new LinkedHashMap<>();
+        for (String section : List.of("New requests", "Confirmed", "Rejected", "Cancelled", "Back to pending")) {
+            sections.put(section, new TreeMap<>());
+        }
+        for (MailDigestEvent event : pending) {
+            sections.computeIfAbsent(sectionFor(event), ignored -> new TreeMap<>())
+                    .computeIfAbsent(dayOf(event), ignored -> new ArrayList<>())
+                    .add(event);
+        }
+
+        Map<String, Map<String, List<MailDigestEvent>>> labelled = new LinkedHashMap<>();
+        sections.forEach((section, days) -> {
+            Map<String, List<MailDigestEvent>> byDay = new LinkedHashMap<>();
+            days.forEach((day, dayEvents) -> byDay.put(DAY_FORMAT.format(day), dayEvents));
+            labelled.put(section, byDay);
+        });
+        return labelled;
+    }
+
+    private static String sectionFor(MailDigestEvent event) {
+        if (event.getPreviousStatus() == null) {
+            return "New requests";
+        }
+        return switch (event.getStatus()) {
+            case "confirmed" -> "Confirmed";
+            case "rejected" -> "Rejected";
+            case "cancelled" -> "Cancelled";
+            case "pending" -> "Back to pending";
+            default -> event.getStatus();
+        };
+    }
+
+    private LocalDate dayOf(MailDigestEvent event) {
+        return event.getOccurredAt().atZone(clock.getZone()).withZoneSameInstant(zone).toLocalDate();
+    }
+}
@@ -0,0 +1,13 @@
+package com.red.api.notifications;
+
+/**
+ * Outcome of one message in a {@link SmtpTransportPool#sendBatch} call.
+ */
+public record MailSendResult(Exception failure) {
+
+    static final MailSendResult DELIVERED = new MailSendResult(null);
+
+    public boolean delivered() {
+        return failure == null;
+    }
+}
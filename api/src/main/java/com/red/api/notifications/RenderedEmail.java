@@ -0,0 +1,7 @@
+package com.red.api.notifications;
+
+/**
+ * A rendered notification: plain text for every client and HTML for those that show it.
+ */
+public record RenderedEmail(String subject, String text, String html) {
+}
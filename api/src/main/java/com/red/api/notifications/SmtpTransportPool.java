@@ -0,0 +1,223 @@
+package com.red.api.notifications;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps up to {@code poolSize} authenticated SMTP connections open and reuses them across sends.
+ * {@link JavaMailSenderImpl} opens a fresh connection (TCP, STARTTLS and AUTH) for every call, which
+ * turns a burst of status changes into a burst of handshakes; here a whole batch goes over one
+ * connection and the connection goes back to the pool afterwards.
+ *
+ * <p>Connections idle for longer than {@code validateAfter} are checked with a NOOP before reuse,
+ * and connections idle for longer than {@code maxIdle} are closed so the server never has to.
+ *
+ * <p>Per-message send latency is recorded as {@code mail.smtp.send} (tagged by outcome), next to
+ * {@code mail.smtp.connections.opened} and the {@code mail.smtp.connections.idle} gauge. These
+ * meters are the pool's only statistics; read them from {@code /actuator/prometheus}.
+ */
+@Component
+public class SmtpTransportPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final Duration validateAfter;
+    private final Duration maxIdle;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final ScheduledExecutorService reaper;
+
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter connectionsOpenedCounter;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.MailTransport settings = appProperties.mailTransport();
+        this.session = mailSender.getSession();
+        this.protocol = mailSender.getProtocol() == null ? "smtp" : mailSender.getProtocol();
+        this.host = mailSender.getHost();
+        this.port = mailSender.getPort();
+        this.username = mailSender.getUsername();
+        this.password = mailSender.getPassword();
+        this.validateAfter = settings.validateAfter();
+        this.maxIdle = settings.maxIdle();
+        this.permits = new Semaphore(Math.max(1, settings.poolSize()));
+        this.reaper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("smtp-pool-reaper").daemon().factory());
+
+        this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+        this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+        this.connectionsOpenedCounter = Counter.builder("mail.smtp.connections.opened")
+                .description("SMTP connections opened by the pool")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.connections.idle", idle, BlockingDeque::size)
+                .description("Authenticated SMTP connections waiting in the pool")
+                .register(meterRegistry);
+
+        long reapMillis = Math.max(1000, maxIdle.toMillis() / 2);
+        reaper.scheduleWithFixedDelay(this::closeExpired, reapMillis, reapMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(session);
+    }
+
+    /**
+     * Sends the messages in order over a single pooled connection, blocking while every connection
+     * is in use. A failed message does not stop the batch; if the failure dropped the connection the
+     * message is retried once on a new connection, which is then used for the rest. Results line up
+     * with the input list.
+     */
+    public List<MailSendResult> sendBatch(List<MimeMessage> messages) {
+        List<MailSendResult> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+
+        permits.acquireUninterruptibly();
+        PooledConnection connection = null;
+        try {
+            batch:
+            for (MimeMessage message : messages) {
+                MailSendResult result = null;
+                for (int attempt = 1; result == null; attempt++) {
+                    if (connection == null) {
+                        try {
+                            connection = borrow();
+                        } catch (MessagingException exception) {
+                            failRemaining(results, messages.size(), exception);
+                            break batch;
+                        }
+                    }
+
+                    long started = System.nanoTime();
+                    try {
+                        message.saveChanges();
+                        connection.transport().sendMessage(message, message.getAllRecipients());
+                        sendSuccessTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        result = MailSendResult.DELIVERED;
+                    } catch (MessagingException | RuntimeException exception) {
+                        sendFailureTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        boolean dropped = !connection.transport().isConnected();
+                        if (dropped) {
+                            close(connection);
+                            connection = null;
+                        }
+                        // A connection the server dropped while pooled gets one retry on a fresh one.
+                        if (!dropped || attempt > 1) {
+                            result = new MailSendResult(exception);
+                        }
+                    }
+                }
+                results.add(result);
+            }
+        } finally {
+            if (connection != null) {
+                idle.offerFirst(connection.touch());
+            }
+            permits.release();
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reaper.shutdownNow();
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            close(connection);
+        }
+    }
+
+    private PooledConnection borrow() throws MessagingException {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            long idleNanos = System.nanoTime() - connection.lastUsedNanos();
+            if (idleNanos > maxIdle.toNanos()) {
+                close(connection);
+            } else if (idleNanos <= validateAfter.toNanos() || connection.transport().isConnected()) {
+                return connection;
+            } else {
+                close(connection);
+            }
+        }
+        return open();
+    }
+
+    private PooledConnection open() throws MessagingException {
+        Transport transport = session.getTransport(protocol);
+        transport.connect(host, port, username, password);
+        connectionsOpenedCounter.increment();
+        return new PooledConnection(transport, System.nanoTime());
+    }
+
+    private void closeExpired() {
+        // Returned connections go to the head, so the longest idle ones sit at the tail.
+        long maxIdleNanos = maxIdle.toNanos();
+        PooledConnection connection;
+        while ((connection = idle.pollLast()) != null) {
+            if (System.nanoTime() - connection.lastUsedNanos() <= maxIdleNanos) {
+                idle.offerLast(connection);
+                return;
+            }
+            close(connection);
+        }
+    }
+
+    private void close(PooledConnection connection) {
+        try {
+            connection.transport().close();
+        } catch (MessagingException exception) {
+            log.debug("Ignoring error while closing SMTP connection: {}", exception.getMessage());
+        }
+    }
+
+    private void failRemaining(List<MailSendResult> results, int total, MessagingException exception) {
+        log.warn("Unable to open SMTP connection to {}:{}: {}", host, port, exception.getMessage());
+        while (results.size() < total) {
+            results.add(new MailSendResult(exception));
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("mail.smtp.send")
+                .description("Time to hand one message to the SMTP server")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record PooledConnection(Transport transport, long lastUsedNanos) {
+        PooledConnection touch() {
+            return new PooledConnection(transport, System.nanoTime());
+        }
+    }
+}
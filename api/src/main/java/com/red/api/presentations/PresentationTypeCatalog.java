@@ -0,0 +1,66 @@
+package com.red.api.presentations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.red.api.cache.JsonSnapshot;
+import com.red.api.cache.JsonSnapshotCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps the presentation-type catalogue serialized in memory, one copy per view. Copies are
+ * dropped after every committed {@link PresentationTypeChangedEvent}; the time to live only covers
+ * edits made on another instance or directly in the database.
+ */
+@Service
+public class PresentationTypeCatalog {
+
+    static final Duration SNAPSHOT_TTL = Duration.ofMinutes(10);
+    private static final int MAX_CACHED_VIEWS = 32;
+
+    private final PresentationTypeRepo repo;
+    private final JsonSnapshotCache<View> snapshotCache;
+
+    /**
+     * A filtered view of the catalogue. {@code grade} is null for every grade.
+     */
+    record View(boolean activeOnly, Integer grade) {}
+
+    public PresentationTypeCatalog(PresentationTypeRepo repo, ObjectMapper objectMapper) {
+        this.repo = repo;
+        this.snapshotCache = new JsonSnapshotCache<>(
+                this::load,
+                objectMapper,
+                SNAPSHOT_TTL,
+                MAX_CACHED_VIEWS,
+                Clock.systemUTC()
+        );
+    }
+
+    public JsonSnapshot snapshot(boolean activeOnly, Integer grade) {
+        return snapshotCache.get(new View(activeOnly, grade));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPresentationTypeChanged(PresentationTypeChangedEvent event) {
+        snapshotCache.invalidate();
+    }
+
+    /**
+     * Types in the view, in creation order. A missing grade bound leaves that side open.
+     */
+    List<PresentationTypeSummary> load(View view) {
+        return repo.findAllSummaries().stream()
+                .filter(type -> !view.activeOnly() || Boolean.TRUE.equals(type.isActive()))
+                .filter(type -> view.grade() == null || covers(type, view.grade()))
+                .toList();
+    }
+
+    private static boolean covers(PresentationTypeSummary type, int grade) {
+        return (type.gradeMin() == null || type.gradeMin() <= grade)
+                && (type.gradeMax() == null || type.gradeMax() >= grade);
+    }
+}
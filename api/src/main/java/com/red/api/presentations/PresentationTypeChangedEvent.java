@@ -0,0 +1,8 @@
+package com.red.api.presentations;
+
+/**
+ * Published whenever a presentation type is created or edited, so the cached catalogue is rebuilt
+ * once the surrounding transaction has committed.
+ */
+public record PresentationTypeChangedEvent(Long presentationTypeId) {
+}
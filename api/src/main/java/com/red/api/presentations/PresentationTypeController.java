@@ -1,21 +1,56 @@
 package com.red.api.presentations;
 
+import com.red.api.cache.JsonSnapshot;
+import com.red.api.datasource.ReplicaRead;
 import jakarta.validation.constraints.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.*;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/presentation-types")
 @RequiredArgsConstructor
 public class PresentationTypeController {
 
+    static final int MAX_GRADE = 12;
+
     private final PresentationTypeRepo repo;
+    private final PresentationTypeCatalog catalog;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * The catalogue, optionally limited to active types and to types suitable for {@code grade}
+     * (0 for kindergarten up to 12). Clients revalidate every time with the ETag, which is a hash of
+     * the catalogue served, so an unchanged catalogue costs a 304. An edit shows up at once on the
+     * instance that handled it; other instances keep serving their old snapshot, and answering 304 to
+     * its ETag, until it expires ({@link PresentationTypeCatalog#SNAPSHOT_TTL}).
+     */
     @GetMapping
-    public List<PresentationType> list() {
-        return repo.findAll();
+    @ReplicaRead
+    public ResponseEntity<byte[]> list(
+            @RequestParam(defaultValue = "false") boolean active,
+            @RequestParam(required = false) Integer grade,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (grade != null && (grade < 0 || grade > MAX_GRADE)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Grade must be between 0 and " + MAX_GRADE);
+        }
+
+        JsonSnapshot snapshot = catalog.snapshot(active, grade);
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     record CreatePT(
@@ -27,6 +62,7 @@ public class PresentationTypeController {
     ) {}
 
     @PostMapping
+    @Transactional
     public PresentationType create(@RequestBody CreatePT body) {
         var pt = new PresentationType();
         pt.setName(body.name());
@@ -35,6 +71,8 @@ public class PresentationTypeController {
         pt.setGradeMin(body.gradeMin());
         pt.setGradeMax(body.gradeMax());
         pt.setIsActive(true);
-        return repo.save(pt);
+        var saved = repo.save(pt);
+        eventPublisher.publishEvent(new PresentationTypeChangedEvent(saved.getId()));
+        return saved;
     }
 }
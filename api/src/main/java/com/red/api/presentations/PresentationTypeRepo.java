@@ -1,5 +1,19 @@
 package com.red.api.presentations;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface PresentationTypeRepo extends JpaRepository<PresentationType, Long> {}
+import java.util.List;
+
+public interface PresentationTypeRepo extends JpaRepository<PresentationType, Long> {
+
+    @Query("""
+            select new com.red.api.presentations.PresentationTypeSummary(
+                p.id, p.name, p.description, p.durationMin, p.gradeMin, p.gradeMax, p.isActive)
+            from PresentationType p
+            order by p.id
+            """)
+    @Transactional(readOnly = true)
+    List<PresentationTypeSummary> findAllSummaries();
+}
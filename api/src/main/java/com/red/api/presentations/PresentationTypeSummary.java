@@ -0,0 +1,11 @@
+package com.red.api.presentations;
+
+public record PresentationTypeSummary(
+        Long id,
+        String name,
+        String description,
+        Integer durationMin,
+        Integer gradeMin,
+        Integer gradeMax,
+        Boolean isActive
+) {}
@@ -0,0 +1,55 @@
+package com.red.api.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Turns away public requests with 429 when the client's bucket for the route is empty, or 503
+ * when too many public requests are already running. Both carry {@code Retry-After} in seconds.
+ * Clients are told apart by remote address, which is the caller's own address once
+ * {@code server.forward-headers-strategy} trusts the load balancer.
+ */
+public class PublicRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = PublicRateLimitInterceptor.class.getName() + ".ADMITTED";
+
+    private final PublicRateLimiter limiter;
+
+    public PublicRateLimitInterceptor(PublicRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        Duration wait = limiter.tryAcquire(PublicRateLimiter.Route.of(request.getRequestURI()), request.getRemoteAddr());
+        if (!wait.isZero()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (wait.toMillis() + 999) / 1000)));
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please try again shortly");
+        }
+
+        if (!limiter.tryEnter()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The server is busy, please try again shortly");
+        }
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            limiter.exit();
+        }
+    }
+}
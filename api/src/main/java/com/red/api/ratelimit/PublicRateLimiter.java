@@ -0,0 +1,187 @@
+package com.red.api.ratelimit;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for the unauthenticated endpoints. Each client IP gets a {@link TokenBucket}
+ * per {@link Route}, so one script refreshing availability cannot use up a teacher's booking
+ * attempts and vice versa. Admitted requests then count against a global in-flight limit, which
+ * keeps a burst from queueing on the connection pool.
+ *
+ * <p>Buckets that have refilled are swept every minute. If there are ever more than
+ * {@code maxClients} of them, for instance under a spray of spoofed addresses, the map starts over.
+ */
+@Component
+public class PublicRateLimiter implements MeterBinder {
+
+    public enum Route {
+        AVAILABILITY,
+        BOOKINGS,
+        CANCELLATIONS;
+
+        static Route of(String path) {
+            if (path.startsWith("/bookings/cancellations/")) {
+                return CANCELLATIONS;
+            }
+            if (path.startsWith("/bookings")) {
+                return BOOKINGS;
+            }
+            return AVAILABILITY;
+        }
+    }
+
+    private record Limit(long intervalNanos, int burst) {
+        static Limit perMinute(int perMinute, int burst) {
+            return new Limit(TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute), Math.max(1, burst));
+        }
+    }
+
+    private record BucketKey(Route route, String client) {}
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int maxClients;
+    private final Map<Route, Limit> limits = new EnumMap<>(Route.class);
+    private final Clock clock;
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong overloaded = new AtomicLong();
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public PublicRateLimiter(AppProperties appProperties) {
+        this(appProperties.rateLimit(), Clock.systemUTC());
+    }
+
+    PublicRateLimiter(AppProperties.RateLimit settings, Clock clock) {
+        this.enabled = settings != null && settings.enabled();
+        this.maxInFlight = settings == null ? 0 : settings.maxInFlight();
+        this.maxClients = settings == null ? 0 : settings.maxClients();
+        if (settings != null) {
+            limits.put(Route.AVAILABILITY, Limit.perMinute(settings.availabilityPerMinute(), settings.availabilityBurst()));
+            limits.put(Route.BOOKINGS, Limit.perMinute(settings.bookingsPerMinute(), settings.bookingsBurst()));
+            limits.put(Route.CANCELLATIONS, Limit.perMinute(settings.cancellationsPerMinute(), settings.cancellationsBurst()));
+        }
+        this.clock = clock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rate-limit-sweeper").daemon().factory());
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        sweeper.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes a token from {@code client}'s bucket for {@code route}. Returns {@link Duration#ZERO}
+     * if the request may go ahead, otherwise how long until the client may try again.
+     */
+    public Duration tryAcquire(Route route, String client) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = nowNanos();
+        if (buckets.size() >= maxClients) {
+            buckets.clear();
+        }
+
+        Limit limit = limits.get(route);
+        TokenBucket bucket = buckets.computeIfAbsent(
+                new BucketKey(route, client), ignored -> new TokenBucket(limit.intervalNanos(), limit.burst(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            rateLimited.incrementAndGet();
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    /**
+     * Claims one of the {@code maxInFlight} slots for an admitted request. Every successful call
+     * must be paired with {@link #exit()}.
+     */
+    public boolean tryEnter() {
+        if (!enabled) {
+            return true;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                overloaded.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void exit() {
+        if (enabled) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    void sweep() {
+        long now = nowNanos();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private long nowNanos() {
+        Instant now = clock.instant();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.public.in_flight", inFlight, AtomicInteger::get)
+                .description("Public API requests currently being handled")
+                .register(registry);
+        Gauge.builder("http.public.rate_limit.buckets", buckets, Map::size)
+                .description("Client token buckets currently held")
+                .register(registry);
+        FunctionCounter.builder("http.public.rejected", rateLimited, AtomicLong::get)
+                .description("Public API requests turned away")
+                .tag("reason", "rate_limited")
+                .register(registry);
+        FunctionCounter.builder("http.public.rejected", overloaded, AtomicLong::get)
+                .description("Public API requests turned away")
+                .tag("reason", "overloaded")
+                .register(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.red.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept in one {@link AtomicLong}: the time at which the bucket will be full again
+ * (the "theoretical arrival time" of the generic cell rate algorithm). Taking a token moves that
+ * time one refill interval later, and is refused when it would end up more than a full bucket
+ * ahead of now. Updates are a compare-and-set loop, so callers never block each other.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long intervalNanos, int burst, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.capacityNanos = intervalNanos * burst;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if there is one. Returns 0 on success, or how many nanoseconds until the next
+     * token is due.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > capacityNanos) {
+                return ahead - capacityNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A full bucket behaves exactly like a new one, so it can be dropped without anyone noticing.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,18 @@
+-- Booking status changes waiting for the next admin digest. digest_id is set when a digest run
+-- claims a row, and the row is deleted once that digest has been queued.
+create sequence if not exists mail_digest_event_seq increment by 50;
+
+create table if not exists mail_digest_event (
+    id bigint primary key,
+    booking_id bigint not null,
+    previous_status varchar(255),
+    status varchar(255) not null,
+    teacher_name varchar(255) not null,
+    school varchar(255) not null,
+    presentation_type varchar(255) not null,
+    slot_label text not null,
+    occurred_at timestamp(6) not null,
+    digest_id varchar(36)
+);
+
+create index if not exists mail_digest_event_digest_id_idx on mail_digest_event (digest_id);
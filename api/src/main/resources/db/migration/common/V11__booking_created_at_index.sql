@@ -0,0 +1,3 @@
+-- Unfiltered admin booking list, newest first (keyset on created_at, id), which is also the first
+-- page the booking changes feed returns when a client has to reset.
+create index if not exists booking_created_at_id_idx on booking (created_at desc, id desc);
@@ -0,0 +1,4 @@
+-- A digest run now locks the rows it reads and deletes them in the same transaction, so it no
+-- longer marks them with a digest id first.
+drop index if exists mail_digest_event_digest_id_idx;
+alter table mail_digest_event drop column if exists digest_id;
@@ -0,0 +1,53 @@
+-- Tables as Hibernate created them before migrations were introduced. Everything is
+-- "if not exists" so databases that already have the schema can run this unchanged.
+
+create table if not exists availability (
+    id bigint generated by default as identity primary key,
+    start timestamp(6) not null,
+    end_time timestamp(6) not null,
+    location varchar(255),
+    capacity integer,
+    status varchar(255) not null,
+    is_active boolean not null
+);
+
+create table if not exists booking (
+    id bigint generated by default as identity primary key,
+    teacher_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255) not null,
+    school varchar(255) not null,
+    presentation_type varchar(255) not null,
+    presentation_location varchar(255) not null,
+    extra_notes text,
+    slot_id varchar(255) not null,
+    slot_label text not null,
+    presentation_start timestamp(6) not null,
+    presentation_end timestamp(6),
+    status varchar(255) not null,
+    cancellation_token varchar(255) not null unique,
+    created_at timestamp(6) not null
+);
+
+create table if not exists presentation_type (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    description text,
+    duration_min integer not null,
+    grade_min integer,
+    grade_max integer,
+    is_active boolean not null
+);
+
+create table if not exists email_outbox (
+    id bigint generated by default as identity primary key,
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    body text not null,
+    status varchar(255) not null,
+    attempts integer not null,
+    next_attempt_at timestamp(6) not null,
+    last_error text,
+    created_at timestamp(6) not null,
+    sent_at timestamp(6)
+);
@@ -0,0 +1,8 @@
+-- Latest booking per slot (findTopBySlotIdOrderByCreatedAtDesc, findLatestBySlotIdIn).
+create index if not exists booking_slot_id_created_at_idx on booking (slot_id, created_at desc);
+
+-- Admin booking list filtered by status, newest first (keyset on created_at, id).
+create index if not exists booking_status_created_at_idx on booking (status, created_at desc, id desc);
+
+-- Outbox poll for due messages.
+create index if not exists email_outbox_status_next_attempt_at_idx on email_outbox (status, next_attempt_at);
@@ -0,0 +1,2 @@
+-- HTML alternative for multipart notifications; null sends plain text only.
+alter table email_outbox add column if not exists html_body text;
@@ -0,0 +1,5 @@
+-- Logged-out admin tokens, shared so every instance can reject them until they expire.
+create table if not exists admin_token_revocation (
+    token_id varchar(64) primary key,
+    expires_at timestamp(6) not null
+);
@@ -0,0 +1,14 @@
+-- Every slot and booking write is stamped with the next value of change_clock so clients can
+-- fetch only what changed since their last sync. Existing rows start at 0.
+create table if not exists change_clock (
+    id integer primary key,
+    last_seq bigint not null
+);
+
+insert into change_clock (id, last_seq) values (1, 0);
+
+alter table availability add column change_seq bigint not null default 0;
+alter table booking add column change_seq bigint not null default 0;
+
+create index if not exists availability_change_seq_idx on availability (change_seq);
+create index if not exists booking_change_seq_idx on booking (change_seq);
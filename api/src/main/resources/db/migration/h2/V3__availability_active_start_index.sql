@@ -0,0 +1,2 @@
+-- H2 has no partial indexes; lead with is_active instead.
+create index if not exists availability_active_start_idx on availability (is_active, start);
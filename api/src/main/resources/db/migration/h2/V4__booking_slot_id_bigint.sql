@@ -0,0 +1,5 @@
+-- booking.slot_id held the availability id as text; see the postgresql variant.
+alter table booking alter column slot_id set data type bigint;
+
+alter table booking
+    add constraint booking_slot_id_fk foreign key (slot_id) references availability (id);
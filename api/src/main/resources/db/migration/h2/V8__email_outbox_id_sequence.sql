@@ -0,0 +1,4 @@
+-- See the postgresql variant.
+create sequence if not exists email_outbox_seq increment by 50;
+
+alter sequence email_outbox_seq restart with (select coalesce(max(id), 0) + 50 from email_outbox);
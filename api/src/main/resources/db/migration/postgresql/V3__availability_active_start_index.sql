@@ -0,0 +1,2 @@
+-- Public availability window: active slots ordered by start.
+create index if not exists availability_active_start_idx on availability (start) where is_active;
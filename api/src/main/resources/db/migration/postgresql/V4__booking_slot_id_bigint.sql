@@ -0,0 +1,6 @@
+-- booking.slot_id held the availability id as text. Convert it in place (fails loudly on any
+-- non-numeric value rather than dropping rows) and make it a real foreign key.
+alter table booking alter column slot_id type bigint using slot_id::bigint;
+
+alter table booking
+    add constraint booking_slot_id_fk foreign key (slot_id) references availability (id);
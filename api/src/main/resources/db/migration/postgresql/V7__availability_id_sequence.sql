@@ -0,0 +1,5 @@
+-- Hibernate now allocates availability ids from a sequence in blocks of 50 so bulk inserts can be
+-- batched. The identity column keeps its default; the sequence starts past every existing id.
+create sequence if not exists availability_seq increment by 50;
+
+select setval('availability_seq', coalesce((select max(id) from availability), 0) + 50, false);
@@ -0,0 +1,5 @@
+-- Outbox ids now come from a sequence in blocks of 50 so bulk notifications can be batched.
+-- The sequence starts past every existing id.
+create sequence if not exists email_outbox_seq increment by 50;
+
+select setval('email_outbox_seq', coalesce((select max(id) from email_outbox), 0) + 50, false);
@@ -0,0 +1,155 @@
+package com.red.api.admin;
+
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminAuthServiceTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0001";
+
+    @Autowired
+    private AdminTokenRevocationRepository revocationRepository;
+
+    @AfterEach
+    void tearDown() {
+        revocationRepository.deleteAll();
+    }
+
+    @Test
+    void tokensVerifyOnAnyInstanceSharingTheSecret() {
+        AdminAuthService first = authService(SECRET);
+        AdminAuthService second = authService(SECRET);
+
+        String token = first.authenticate("admin", "secret");
+
+        assertThat(token).isNotNull();
+        assertThat(first.isTokenValid(token)).isTrue();
+        assertThat(second.isTokenValid(token)).isTrue();
+        assertThat(authService("another-secret-another-secret-another-1").isTokenValid(token)).isFalse();
+        assertThat(first.authenticate("admin", "wrong")).isNull();
+    }
+
+    @Test
+    void rejectsTamperedAndMalformedTokens() {
+        AdminAuthService authService = authService(SECRET);
+        String token = authService.authenticate("admin", "secret");
+        String[] parts = token.split("\\.");
+
+        String extended = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2];
+        assertThat(authService.isTokenValid(extended)).isFalse();
+        assertThat(authService.isTokenValid(parts[0] + "." + parts[1])).isFalse();
+        assertThat(authService.isTokenValid("not-a-token")).isFalse();
+        assertThat(authService.isTokenValid("a.b.c")).isFalse();
+        assertThat(authService.isTokenValid(null)).isFalse();
+    }
+
+    @Test
+    void logoutRevokesTheTokenOnEveryInstanceAfterRefresh() {
+        AdminTokenDenylist firstDenylist = denylist();
+        AdminTokenDenylist secondDenylist = denylist();
+        AdminAuthService first = new AdminAuthService(appProperties(SECRET), firstDenylist);
+        AdminAuthService second = new AdminAuthService(appProperties(SECRET), secondDenylist);
+        String token = first.authenticate("admin", "secret");
+        String other = first.authenticate("admin", "secret");
+
+        first.invalidate(token);
+
+        assertThat(first.isTokenValid(token)).isFalse();
+        assertThat(first.isTokenValid(other)).isTrue();
+        assertThat(second.isTokenValid(token)).isTrue();
+
+        secondDenylist.refresh();
+
+        assertThat(second.isTokenValid(token)).isFalse();
+        assertThat(second.isTokenValid(other)).isTrue();
+    }
+
+    @Test
+    void streamTicketsOnlyOpenStreamsAndDieWithTheirToken() {
+        AdminAuthService authService = authService(SECRET);
+        String token = authService.authenticate("admin", "secret");
+
+        String ticket = authService.issueStreamTicket(token);
+
+        assertThat(ticket).isNotNull().doesNotContain(token);
+        assertThat(authService.isStreamTicketValid(ticket)).isTrue();
+        assertThat(authService.isTokenValid(ticket)).isFalse();
+        assertThat(authService.isStreamTicketValid(token)).isFalse();
+        assertThat(authService.isStreamTicketValid(ticket.substring(2))).isFalse();
+        assertThat(authService.issueStreamTicket("not-a-token")).isNull();
+
+        String[] parts = ticket.split("\\.");
+        long expiresAt = Long.parseLong(parts[2]);
+        assertThat(expiresAt).isLessThanOrEqualTo(
+                Instant.now().plus(AdminAuthService.STREAM_TICKET_TTL).getEpochSecond());
+        String extended = parts[0] + "." + parts[1] + "." + (expiresAt + 3600) + "." + parts[3];
+        assertThat(authService.isStreamTicketValid(extended)).isFalse();
+
+        authService.invalidate(token);
+
+        assertThat(authService.isStreamTicketValid(ticket)).isFalse();
+        assertThat(authService.issueStreamTicket(token)).isNull();
+    }
+
+    @Test
+    void streamUrlsTakeATicketButNeverTheToken() {
+        AdminAuthService authService = authService(SECRET);
+        AdminAuthInterceptor interceptor = new AdminAuthInterceptor(authService);
+        String token = authService.authenticate("admin", "secret");
+        String ticket = authService.issueStreamTicket(token);
+
+        assertThat(interceptor.preHandle(streamRequest("ticket", ticket), new MockHttpServletResponse(), null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(streamRequest("token", token), new MockHttpServletResponse(), null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        MockHttpServletRequest list = new MockHttpServletRequest("GET", "/admin/bookings");
+        list.setParameter("ticket", ticket);
+        assertThatThrownBy(() -> interceptor.preHandle(list, new MockHttpServletResponse(), null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void rejectsShortSecrets() {
+        assertThatThrownBy(() -> authService("too-short"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("token-secret");
+    }
+
+    private static MockHttpServletRequest streamRequest(String parameter, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/availability/stream");
+        request.setParameter(parameter, value);
+        return request;
+    }
+
+    private AdminAuthService authService(String secret) {
+        return new AdminAuthService(appProperties(secret), denylist());
+    }
+
+    private AdminTokenDenylist denylist() {
+        return new AdminTokenDenylist(revocationRepository, appProperties(SECRET));
+    }
+
+    private static AppProperties appProperties(String secret) {
+        return AppProperties.builder()
+                .admin(new AppProperties.Admin("admin", "secret", 240, secret, Duration.ofSeconds(15)))
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.red.api.availability;
+
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.booking.BookingStatusChangedEvent;
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdminAvailabilityControllerTests {
+
+    private static final LocalDate TERM_START = LocalDate.of(2026, 1, 5);
+    private static final LocalDate TERM_END = LocalDate.of(2026, 4, 24);
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Object> events = new ArrayList<>();
+    private AdminAvailabilityController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdminAvailabilityController(
+                availabilityRepository, bookingRepository, events::add, new ChangeSequence(changeClockRepository));
+    }
+
+    @Test
+    void recurrenceCreatesASemesterOfSlotsWithBatchedInserts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        AdminAvailabilityController.RecurrenceResult result = controller.createRecurring(semester(
+                Set.of(LocalDate.of(2026, 2, 16), LocalDate.of(2026, 2, 18))));
+        entityManager.flush();
+
+        // 16 Mondays and 16 Wednesdays, minus the two excluded days of reading week.
+        assertThat(result).isEqualTo(new AdminAvailabilityController.RecurrenceResult(30, 0));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        // Change clock advance and read, one lookup of existing starts, one sequence call per 50 ids,
+        // one batched insert.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+
+        List<Availability> slots = availabilityRepository.findAll();
+        assertThat(slots).hasSize(30).allSatisfy(slot -> {
+            assertThat(slot.getStart().getDayOfWeek()).isIn(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+            assertThat(slot.getStart().toLocalTime()).isEqualTo(LocalTime.of(13, 0));
+            assertThat(slot.getEnd().toLocalTime()).isEqualTo(LocalTime.of(14, 30));
+            assertThat(slot.getLocation()).isEqualTo("To be confirmed");
+        });
+        assertThat(events).singleElement()
+                .isEqualTo(new AvailabilityChangedEvent(Set.copyOf(slots.stream().map(Availability::getId).toList())));
+    }
+
+    @Test
+    void recurrenceSkipsDaysThatAlreadyHaveTheSlot() {
+        controller.createRecurring(semester(Set.of()));
+        entityManager.flush();
+
+        AdminAvailabilityController.RecurrenceResult again = controller.createRecurring(semester(Set.of()));
+
+        assertThat(again).isEqualTo(new AdminAvailabilityController.RecurrenceResult(0, 32));
+        assertThat(availabilityRepository.count()).isEqualTo(32);
+    }
+
+    @Test
+    void recurrenceRejectsInvertedRangesAndTimes() {
+        assertThatThrownBy(() -> controller.createRecurring(new AdminAvailabilityController.RecurrenceRequest(
+                TERM_END, TERM_START, Set.of(DayOfWeek.MONDAY), LocalTime.of(13, 0), LocalTime.of(14, 0),
+                null, null, null)))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> controller.createRecurring(new AdminAvailabilityController.RecurrenceRequest(
+                TERM_START, TERM_END, Set.of(DayOfWeek.MONDAY), LocalTime.of(13, 0), LocalTime.of(13, 0),
+                null, null, null)))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(availabilityRepository.count()).isZero();
+    }
+
+    @Test
+    void disableRangeDeactivatesSlotsAndCancelsTheirBookings() {
+        controller.createRecurring(semester(Set.of()));
+        entityManager.flush();
+        Availability held = availabilityRepository.findAll().stream()
+                .filter(slot -> slot.getStart().toLocalDate().equals(LocalDate.of(2026, 3, 2)))
+                .findFirst()
+                .orElseThrow();
+        held.setStatus("pending");
+        Booking booking = saveBooking(held, "pending");
+        saveBooking(held, "cancelled");
+        entityManager.flush();
+        entityManager.clear();
+        events.clear();
+
+        AdminAvailabilityController.DisableRangeResult result = controller.disableRange(
+                new AdminAvailabilityController.DateRangeRequest(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)));
+        entityManager.clear();
+
+        // March 2026 has five Mondays and four Wednesdays.
+        assertThat(result).isEqualTo(new AdminAvailabilityController.DisableRangeResult(9, 1));
+        assertThat(availabilityRepository.findAll())
+                .filteredOn(slot -> slot.getStart().getMonthValue() == 3)
+                .hasSize(9)
+                .allSatisfy(slot -> {
+                    assertThat(slot.getIsActive()).isFalse();
+                    assertThat(slot.getStatus()).isEqualTo("available");
+                });
+        assertThat(availabilityRepository.findAll())
+                .filteredOn(Availability::getIsActive)
+                .hasSize(23);
+        assertThat(bookingRepository.findById(booking.getId())).get()
+                .extracting(Booking::getStatus)
+                .isEqualTo("cancelled");
+        assertThat(events).contains(new BookingStatusChangedEvent(booking.getId(), "pending", "cancelled"));
+        assertThat(events).last()
+                .isInstanceOfSatisfying(AvailabilityChangedEvent.class,
+                        event -> assertThat(event.slotIds()).hasSize(9).contains(held.getId()));
+    }
+
+    private static AdminAvailabilityController.RecurrenceRequest semester(Set<LocalDate> excludedDates) {
+        return new AdminAvailabilityController.RecurrenceRequest(
+                TERM_START,
+                TERM_END,
+                Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+                LocalTime.of(13, 0),
+                LocalTime.of(14, 30),
+                excludedDates,
+                " ",
+                30
+        );
+    }
+
+    private Booking saveBooking(Availability slot, String status) {
+        Booking booking = new Booking();
+        booking.setName("Teacher " + slot.getId());
+        booking.setEmail("teacher" + slot.getId() + "@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus(status);
+        booking.setCreatedAt(LocalDateTime.of(2025, 12, 1, 9, 0));
+        return bookingRepository.save(booking);
+    }
+}
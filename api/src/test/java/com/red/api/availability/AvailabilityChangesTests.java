@@ -0,0 +1,132 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.booking.BookingSummary;
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AvailabilityChangesTests {
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> events = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private AdminAvailabilityController adminController;
+    private AvailabilityController controller;
+
+    @BeforeEach
+    void setUp() {
+        ChangeSequence changeSequence = new ChangeSequence(changeClockRepository);
+        AvailabilitySnapshotService snapshotService = new AvailabilitySnapshotService(
+                availabilityRepository, bookingRepository, JsonMapper.builder().findAndAddModules().build(), appProperties);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        adminController = new AdminAvailabilityController(
+                availabilityRepository, bookingRepository, events::add, changeSequence);
+        controller = new AvailabilityController(availabilityRepository, snapshotService, appProperties, changeSequence);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        availabilityRepository.deleteAll();
+    }
+
+    @Test
+    void changesSinceACursorReturnOnlyLaterWritesIncludingDeactivations() {
+        Availability kept = create(3);
+        Availability disabled = create(4);
+        long cursor = controller.getChanges(0, null, null, null).cursor();
+
+        Booking booking = saveBooking(disabled);
+        transactionTemplate.executeWithoutResult(status -> adminController.disable(disabled.getId()));
+        Availability added = create(5);
+
+        AvailabilityController.AvailabilityChanges changes = controller.getChanges(cursor, null, null, null);
+
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.cursor()).isEqualTo(cursor + 2);
+        assertThat(changes.slots())
+                .extracting(AvailabilityController.AvailabilityResponse::id)
+                .containsExactly(disabled.getId(), added.getId())
+                .doesNotContain(kept.getId());
+        assertThat(changes.slots().getFirst().isActive()).isFalse();
+        assertThat(changes.slots()).allSatisfy(slot -> assertThat(slot.booking()).isNull());
+        assertThat(bookingRepository.findChanged(cursor, changes.cursor(), Limit.unlimited()))
+                .extracting(BookingSummary::id)
+                .containsExactly(booking.getId());
+
+        AvailabilityController.AvailabilityChanges none = controller.getChanges(changes.cursor(), null, null, null);
+        assertThat(none.reset()).isFalse();
+        assertThat(none.slots()).isEmpty();
+    }
+
+    @Test
+    void unknownCursorsFallBackToAFullSnapshot() {
+        Availability slot = create(3);
+        long cursor = controller.getChanges(0, null, null, null).cursor();
+
+        AvailabilityController.AvailabilityChanges fresh = controller.getChanges(0, null, null, null);
+        AvailabilityController.AvailabilityChanges ahead = controller.getChanges(cursor + 10, null, null, null);
+
+        assertThat(fresh.reset()).isTrue();
+        assertThat(fresh.slots()).extracting(AvailabilityController.AvailabilityResponse::id).contains(slot.getId());
+        assertThat(ahead.reset()).isTrue();
+        assertThat(ahead.cursor()).isEqualTo(cursor);
+    }
+
+    private Availability create(int daysAhead) {
+        LocalDateTime start = LocalDateTime.now().plusDays(daysAhead).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        return transactionTemplate.execute(status -> adminController.create(
+                new AdminAvailabilityController.CreateAvailabilityRequest(start, start.plusHours(1), "Room 101", 30)));
+    }
+
+    private Booking saveBooking(Availability slot) {
+        Booking booking = new Booking();
+        booking.setName("Teacher");
+        booking.setEmail("teacher@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus("pending");
+        return bookingRepository.save(booking);
+    }
+}
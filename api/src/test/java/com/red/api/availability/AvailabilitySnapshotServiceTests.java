@@ -0,0 +1,198 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.cache.JsonSnapshot;
+import com.red.api.config.AppProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AvailabilitySnapshotServiceTests {
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    private AvailabilitySnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new AvailabilitySnapshotService(
+                availabilityRepository,
+                bookingRepository,
+                JsonMapper.builder().findAndAddModules().build(),
+                appProperties
+        );
+    }
+
+    @Test
+    void loadAvailabilityUsesFixedNumberOfQueriesRegardlessOfHeldSlots() {
+        LocalDateTime firstStart = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < 60; i++) {
+            LocalDateTime start = firstStart.plusHours(i);
+            String status = switch (i % 3) {
+                case 0 -> "pending";
+                case 1 -> "booked";
+                default -> "available";
+            };
+            Availability slot = saveSlot(start, status);
+            if (!"available".equals(status)) {
+                saveBooking(slot, "cancelled", start.minusDays(3));
+                saveBooking(slot, status.equals("booked") ? "confirmed" : "pending", start.minusDays(1));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AvailabilityController.AvailabilityResponse> responses = snapshotService.loadAvailability(nextWeek());
+
+        assertThat(responses).hasSize(60);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(responses)
+                .filteredOn(response -> !"available".equals(response.status()))
+                .allSatisfy(response -> {
+                    assertThat(response.booking()).isNotNull();
+                    assertThat(response.booking().status()).isNotEqualTo("cancelled");
+                });
+        assertThat(responses)
+                .filteredOn(response -> "available".equals(response.status()))
+                .allSatisfy(response -> assertThat(response.booking()).isNull());
+    }
+
+    @Test
+    void loadAvailabilitySkipsBookingLookupWhenNoSlotIsHeld() {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withNano(0);
+        saveSlot(start, "available");
+        saveSlot(start.plusHours(1), "available");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(snapshotService.loadAvailability(nextWeek())).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotIsServedFromMemoryUntilAvailabilityChanges() {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withNano(0);
+        Availability slot = saveSlot(start, "available");
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        JsonSnapshot first = snapshotService.snapshot(nextWeek());
+        JsonSnapshot second = snapshotService.snapshot(nextWeek());
+
+        assertThat(second).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.matches(first.etag())).isTrue();
+        assertThat(first.matches("W/" + first.etag())).isTrue();
+        assertThat(first.matches("\"stale\"")).isFalse();
+
+        slot.setStatus("pending");
+        availabilityRepository.saveAndFlush(slot);
+        snapshotService.onAvailabilityChanged(AvailabilityChangedEvent.of(slot.getId()));
+
+        JsonSnapshot rebuilt = snapshotService.snapshot(nextWeek());
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(rebuilt.etag()).isNotEqualTo(first.etag());
+        assertThat(rebuilt.matches(first.etag())).isFalse();
+    }
+
+    @Test
+    void loadAvailabilityOnlyReturnsSlotsInsideTheWindowUpToTheCap() {
+        LocalDate firstDay = LocalDate.now().plusDays(10);
+        saveSlot(firstDay.minusDays(1).atTime(13, 0), "available");
+        for (int i = 0; i < 5; i++) {
+            saveSlot(firstDay.plusDays(i).atTime(13, 0), "available");
+        }
+        saveSlot(firstDay.plusDays(5).atTime(0, 0), "available");
+        entityManager.flush();
+        entityManager.clear();
+
+        AvailabilityWindow window = new AvailabilityWindow(firstDay, firstDay.plusDays(4));
+        assertThat(snapshotService.loadAvailability(window))
+                .extracting(AvailabilityController.AvailabilityResponse::start)
+                .containsExactly(
+                        firstDay.atTime(13, 0),
+                        firstDay.plusDays(1).atTime(13, 0),
+                        firstDay.plusDays(2).atTime(13, 0),
+                        firstDay.plusDays(3).atTime(13, 0),
+                        firstDay.plusDays(4).atTime(13, 0));
+
+        AppProperties capped = AppProperties.builder()
+                .availability(new AppProperties.AvailabilityOptions(Duration.ofSeconds(60), 42, 93, 2))
+                .build();
+        AvailabilitySnapshotService cappedService = new AvailabilitySnapshotService(
+                availabilityRepository,
+                bookingRepository,
+                JsonMapper.builder().findAndAddModules().build(),
+                capped
+        );
+        assertThat(cappedService.loadAvailability(window)).hasSize(2);
+    }
+
+    private static AvailabilityWindow nextWeek() {
+        return new AvailabilityWindow(LocalDate.now(), LocalDate.now().plusDays(6));
+    }
+
+    private Availability saveSlot(LocalDateTime start, String status) {
+        Availability slot = new Availability();
+        slot.setStart(start);
+        slot.setEnd(start.plusHours(1));
+        slot.setLocation("To be confirmed");
+        slot.setCapacity(30);
+        slot.setStatus(status);
+        slot.setIsActive(true);
+        return availabilityRepository.save(slot);
+    }
+
+    private void saveBooking(Availability slot, String status, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setName("Teacher " + slot.getId());
+        booking.setEmail("teacher" + slot.getId() + "@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus(status);
+        booking.setCreatedAt(createdAt);
+        bookingRepository.save(booking);
+    }
+}
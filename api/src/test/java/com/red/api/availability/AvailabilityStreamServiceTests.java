@@ -0,0 +1,136 @@
+package com.red.api.availability;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AvailabilityStreamServiceTests {
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    private AvailabilityStreamService streamService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JsonMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        AvailabilitySnapshotService snapshotService = new AvailabilitySnapshotService(
+                availabilityRepository, bookingRepository, objectMapper, appProperties);
+        streamService = new AvailabilityStreamService(snapshotService, objectMapper, appProperties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AvailabilityStreamController(streamService)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.stop();
+        bookingRepository.deleteAll();
+        availabilityRepository.deleteAll();
+    }
+
+    @Test
+    void committedChangesReachPublicAndAdminStreams() throws Exception {
+        MockHttpServletResponse publicStream = open("/availability/stream");
+        MockHttpServletResponse adminStream = open("/admin/availability/stream");
+        assertThat(streamService.subscriberCount()).isEqualTo(2);
+
+        Availability slot = new Availability();
+        slot.setStart(LocalDateTime.now().plusDays(3).withNano(0));
+        slot.setEnd(slot.getStart().plusHours(1));
+        slot.setStatus("pending");
+        slot.setIsActive(true);
+        slot = availabilityRepository.save(slot);
+        saveBooking(slot);
+
+        streamService.onAvailabilityChanged(AvailabilityChangedEvent.of(slot.getId()));
+
+        String publicEvents = await(publicStream, "event:slots");
+        String adminEvents = await(adminStream, "event:slots");
+        assertThat(publicEvents)
+                .contains("retry:5000")
+                .contains("\"id\":" + slot.getId())
+                .contains("\"status\":\"pending\"")
+                .contains("\"booking\":null")
+                .doesNotContain("teacher@example.com");
+        assertThat(adminEvents)
+                .contains("\"id\":" + slot.getId())
+                .contains("teacher@example.com");
+    }
+
+    @Test
+    void rejectsSubscribersBeyondTheLimit() {
+        AppProperties limited = AppProperties.builder()
+                .availabilityStream(new AppProperties.AvailabilityStream(Duration.ofSeconds(25), Duration.ofMinutes(30), 32, 1))
+                .build();
+        AvailabilityStreamService limitedService = new AvailabilityStreamService(null, null, limited);
+
+        limitedService.subscribe(false);
+
+        assertThatThrownBy(() -> limitedService.subscribe(true))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        limitedService.stop();
+    }
+
+    private MockHttpServletResponse open(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String await(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private void saveBooking(Availability slot) {
+        Booking booking = new Booking();
+        booking.setName("Teacher");
+        booking.setEmail("teacher@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus("pending");
+        bookingRepository.save(booking);
+    }
+}
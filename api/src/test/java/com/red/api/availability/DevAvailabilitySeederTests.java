@@ -0,0 +1,43 @@
+package com.red.api.availability;
+
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class DevAvailabilitySeederTests {
+
+    @Autowired
+    private AvailabilityRepository repository;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Test
+    void seedsAnEmptyDatabaseOnlyUnderTheDevProfile() {
+        MockEnvironment prod = new MockEnvironment();
+        prod.setActiveProfiles("prod");
+        new DevAvailabilitySeeder(repository, new ChangeSequence(changeClockRepository), prod).run(new DefaultApplicationArguments());
+        assertThat(repository.count()).isZero();
+
+        MockEnvironment dev = new MockEnvironment();
+        dev.setActiveProfiles("dev");
+        DevAvailabilitySeeder seeder = new DevAvailabilitySeeder(repository, new ChangeSequence(changeClockRepository), dev);
+        seeder.run(new DefaultApplicationArguments());
+        // Weekdays from November 10 to 28, 2025.
+        assertThat(repository.count()).isEqualTo(15);
+        // Seeded slots show up in the change feed like any other write.
+        long changeSeq = changeClockRepository.lastSeq();
+        assertThat(changeSeq).isPositive();
+        assertThat(repository.findAll()).extracting(Availability::getChangeSeq).containsOnly(changeSeq);
+
+        seeder.run(new DefaultApplicationArguments());
+        assertThat(repository.count()).isEqualTo(15);
+    }
+}
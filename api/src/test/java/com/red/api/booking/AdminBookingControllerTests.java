@@ -0,0 +1,170 @@
+package com.red.api.booking;
+
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityChangedEvent;
+import com.red.api.availability.AvailabilityRepository;
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import com.red.api.notifications.EmailOutboxMessage;
+import com.red.api.notifications.EmailOutboxRepository;
+import com.red.api.notifications.EmailService;
+import com.red.api.notifications.EmailTemplates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdminBookingControllerTests {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    private final List<Object> events = new ArrayList<>();
+    private AdminBookingController controller;
+
+    @BeforeEach
+    void setUp() {
+        EmailService emailService = new EmailService(
+                outboxRepository, events::add, appProperties, new EmailTemplates(appProperties));
+        controller = new AdminBookingController(
+                bookingRepository, availabilityRepository, emailService, events::add, new ChangeSequence(changeClockRepository));
+    }
+
+    @Test
+    void bulkConfirmUpdatesBookingsSlotsAndOutboxInAFixedNumberOfStatements() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(saveBooking(saveSlot(i), "pending").getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Booking> updated = controller.adminBulkUpdateStatus(
+                new AdminBookingController.BulkStatusRequest(ids, " Confirmed "));
+        entityManager.flush();
+
+        assertThat(updated).extracting(Booking::getId).containsExactlyElementsOf(ids);
+        assertThat(updated).extracting(Booking::getStatus).containsOnly("confirmed");
+        // Locking load, slot update, change clock advance and read, batched booking update, slot
+        // stamp, outbox sequence, batched outbox insert.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(20);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+
+        entityManager.clear();
+        assertThat(availabilityRepository.findAll()).extracting(Availability::getStatus).containsOnly("booked");
+        assertThat(outboxRepository.findAll())
+                .hasSize(20)
+                .extracting(EmailOutboxMessage::getSubject)
+                .containsOnly("[RED] Booking confirmed");
+        assertThat(events).filteredOn(BookingStatusChangedEvent.class::isInstance).hasSize(20);
+        assertThat(events).filteredOn(AvailabilityChangedEvent.class::isInstance)
+                .singleElement()
+                .isInstanceOfSatisfying(AvailabilityChangedEvent.class,
+                        event -> assertThat(event.slotIds()).hasSize(20));
+    }
+
+    @Test
+    void bulkUpdateSkipsBookingsAlreadyInTheTargetStatus() {
+        Booking pending = saveBooking(saveSlot(0), "pending");
+        Booking rejected = saveBooking(saveSlot(1), "rejected");
+        entityManager.flush();
+
+        List<Booking> updated = controller.adminBulkUpdateStatus(
+                new AdminBookingController.BulkStatusRequest(List.of(pending.getId(), rejected.getId()), "rejected"));
+        entityManager.flush();
+
+        assertThat(updated).extracting(Booking::getStatus).containsOnly("rejected");
+        assertThat(events).filteredOn(BookingStatusChangedEvent.class::isInstance)
+                .containsExactly(new BookingStatusChangedEvent(pending.getId(), "pending", "rejected"));
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkUpdateRejectsTheWholeBatchWhenAnyBookingCannotMove() {
+        Booking pending = saveBooking(saveSlot(0), "pending");
+        Booking cancelled = saveBooking(saveSlot(1), "cancelled");
+        entityManager.flush();
+
+        assertThatThrownBy(() -> controller.adminBulkUpdateStatus(new AdminBookingController.BulkStatusRequest(
+                List.of(pending.getId(), cancelled.getId()), "confirmed")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThatThrownBy(() -> controller.adminBulkUpdateStatus(new AdminBookingController.BulkStatusRequest(
+                List.of(pending.getId(), -1L), "confirmed")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> controller.adminBulkUpdateStatus(new AdminBookingController.BulkStatusRequest(
+                List.of(pending.getId()), "booked")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+
+        assertThat(bookingRepository.findById(pending.getId())).get()
+                .extracting(Booking::getStatus)
+                .isEqualTo("pending");
+        assertThat(events).isEmpty();
+    }
+
+    private Availability saveSlot(int offset) {
+        Availability slot = new Availability();
+        slot.setStart(LocalDateTime.of(2026, 3, 2, 9, 0).plusHours(offset));
+        slot.setEnd(slot.getStart().plusHours(1));
+        slot.setLocation("To be confirmed");
+        slot.setCapacity(30);
+        slot.setStatus("pending");
+        slot.setIsActive(true);
+        return availabilityRepository.save(slot);
+    }
+
+    private Booking saveBooking(Availability slot, String status) {
+        Booking booking = new Booking();
+        booking.setName("Teacher " + slot.getId());
+        booking.setEmail("teacher" + slot.getId() + "@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+}
@@ -0,0 +1,183 @@
+package com.red.api.booking;
+
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityRepository;
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import com.red.api.notifications.EmailOutboxRepository;
+import com.red.api.notifications.EmailService;
+import com.red.api.notifications.EmailTemplates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hammers slots from many threads at once and checks that the conditional claim in
+ * {@link BookingController#createBooking} lets exactly one request win each slot, and that only the
+ * winner advances the change clock.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingControllerConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int SLOTS = 40;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BookingController controller;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        EmailService emailService = new EmailService(
+                outboxRepository, eventPublisher, appProperties, new EmailTemplates(appProperties));
+        controller = new BookingController(
+                bookingRepository, availabilityRepository, emailService, eventPublisher, new ChangeSequence(changeClockRepository));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        bookingRepository.deleteAll();
+        availabilityRepository.deleteAll();
+    }
+
+    @Test
+    void exactlyOneConcurrentRequestWinsEachSlot() throws Exception {
+        List<Availability> slots = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().plusDays(7).withNano(0);
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(saveSlot(start.plusHours(i), true));
+        }
+
+        long clockBefore = changeClockRepository.lastSeq();
+        int wins = 0;
+        int conflicts = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (Availability slot : slots) {
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<HttpStatus>> attempts = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    attempts.add(executor.submit(book(slot.getId(), t, ready)));
+                }
+                ready.countDown();
+
+                int slotWins = 0;
+                for (Future<HttpStatus> attempt : attempts) {
+                    HttpStatus status = attempt.get();
+                    if (status == HttpStatus.CREATED) {
+                        slotWins++;
+                    } else {
+                        assertThat(status).isEqualTo(HttpStatus.CONFLICT);
+                        conflicts++;
+                    }
+                }
+                assertThat(slotWins).as("winners for slot %d", slot.getId()).isEqualTo(1);
+                wins += slotWins;
+            }
+        }
+
+        assertThat(wins).isEqualTo(SLOTS);
+        assertThat(conflicts).isEqualTo(SLOTS * (THREADS - 1));
+        assertThat(bookingRepository.count()).isEqualTo(SLOTS);
+        assertThat(availabilityRepository.findAll())
+                .allSatisfy(slot -> assertThat(slot.getStatus()).isEqualTo("pending"));
+        assertThat(outboxRepository.count()).isEqualTo(SLOTS);
+        // Only the winners take a change sequence; the losing requests never touch the clock.
+        assertThat(changeClockRepository.lastSeq() - clockBefore).isEqualTo(SLOTS);
+    }
+
+    @Test
+    void inactiveAndMissingSlotsAreRejectedWithoutBooking() {
+        Availability inactive = saveSlot(LocalDateTime.now().plusDays(3), false);
+        long clockBefore = changeClockRepository.lastSeq();
+
+        assertThatThrownBy(() -> transactionTemplate.execute(tx -> controller.createBooking(request(inactive.getId(), 0))))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThatThrownBy(() -> transactionTemplate.execute(tx -> controller.createBooking(request(-1L, 0))))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThat(bookingRepository.count()).isZero();
+        assertThat(changeClockRepository.lastSeq()).isEqualTo(clockBefore);
+    }
+
+    private Callable<HttpStatus> book(Long slotId, int teacher, CountDownLatch ready) {
+        return () -> {
+            ready.await();
+            try {
+                transactionTemplate.execute(tx -> controller.createBooking(request(slotId, teacher)));
+                return HttpStatus.CREATED;
+            } catch (ResponseStatusException exception) {
+                return HttpStatus.valueOf(exception.getStatusCode().value());
+            }
+        };
+    }
+
+    private BookingController.CreateBookingRequest request(Long slotId, int teacher) {
+        return new BookingController.CreateBookingRequest(
+                "Teacher " + teacher,
+                "teacher" + teacher + "@example.com",
+                "403-555-0100",
+                "Example School",
+                "Fentanyl",
+                "Room 101",
+                null,
+                slotId
+        );
+    }
+
+    private Availability saveSlot(LocalDateTime start, boolean active) {
+        Availability slot = new Availability();
+        slot.setStart(start);
+        slot.setEnd(start.plusHours(1));
+        slot.setLocation("To be confirmed");
+        slot.setCapacity(30);
+        slot.setStatus("available");
+        slot.setIsActive(active);
+        return availabilityRepository.save(slot);
+    }
+}
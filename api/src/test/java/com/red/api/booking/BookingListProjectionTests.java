@@ -0,0 +1,85 @@
+package com.red.api.booking;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The admin bookings page is read as {@link BookingSummary} rows, so it carries exactly the list
+ * columns and never the cancellation token. Its cost against managed entities is measured by
+ * {@code BookingListBenchmark} in {@code api-benchmarks}.
+ */
+@DataJpaTest
+class BookingListProjectionTests {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private AdminBookingController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdminBookingController(bookingRepository, availabilityRepository, null, null, null);
+
+        Availability slot = new Availability();
+        slot.setStart(LocalDateTime.of(2026, 3, 2, 9, 0));
+        slot.setEnd(slot.getStart().plusHours(1));
+        slot.setStatus("pending");
+        slot.setIsActive(true);
+        slot = availabilityRepository.save(slot);
+
+        for (int i = 0; i < 3; i++) {
+            bookingRepository.save(booking(slot, LocalDateTime.of(2025, 9, 1, 8, 0).plusMinutes(i)));
+        }
+    }
+
+    @Test
+    void projectedPagesCarryTheListColumnsButNotTheCancellationToken() {
+        AdminBookingController.BookingPage page = controller.list(null, null, null, null, null, 2, false);
+
+        assertThat(page.items()).hasSize(2);
+        JsonNode first = objectMapper.valueToTree(page).get("items").get(0);
+        List<String> fields = new ArrayList<>();
+        first.fieldNames().forEachRemaining(fields::add);
+        assertThat(fields).containsExactly(
+                "id", "name", "email", "phone", "school", "presentationType", "location", "extraNotes",
+                "slotLabel", "presentationStart", "status", "createdAt");
+        assertThat(first.get("extraNotes").asText()).isEqualTo("Two classes of grade 9 students, about 60 in total.");
+        assertThat(objectMapper.valueToTree(page).toString()).doesNotContain("cancellationToken", "token-");
+    }
+
+    private static Booking booking(Availability slot, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setName("Teacher");
+        booking.setEmail("teacher@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setExtraNotes("Two classes of grade 9 students, about 60 in total.");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Monday, March 2, 2026 9:00 AM - 10:00 AM");
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        booking.setStatus("pending");
+        booking.setCancellationToken("token-" + createdAt);
+        booking.setCreatedAt(createdAt);
+        return booking;
+    }
+}
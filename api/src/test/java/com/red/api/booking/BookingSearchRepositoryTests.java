@@ -0,0 +1,120 @@
+package com.red.api.booking;
+
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class BookingSearchRepositoryTests {
+
+    private static final BookingSearchCriteria ALL = new BookingSearchCriteria(null, null, null, null);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    private Availability slot;
+
+    @BeforeEach
+    void setUp() {
+        slot = new Availability();
+        slot.setStart(LocalDateTime.of(2025, 11, 12, 13, 0));
+        slot.setEnd(LocalDateTime.of(2025, 11, 12, 14, 0));
+        slot.setStatus("pending");
+        slot.setIsActive(true);
+        slot = availabilityRepository.save(slot);
+    }
+
+    @Test
+    void pagesVisitEveryBookingOnceNewestFirstEvenWithTiedTimestamps() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 9, 1, 8, 0);
+        List<Booking> saved = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Every third booking shares its timestamp with the previous one.
+            LocalDateTime timestamp = i % 3 == 0 ? createdAt : createdAt.plusMinutes(i);
+            saved.add(saveBooking("pending", "Fentanyl", timestamp, timestamp.plusMonths(1)));
+        }
+
+        List<Long> visited = new ArrayList<>();
+        BookingCursor cursor = null;
+        do {
+            List<BookingSummary> page = bookingRepository.search(ALL, cursor, 5);
+            page.forEach(booking -> visited.add(booking.id()));
+            cursor = page.size() < 5 ? null : BookingCursor.after(page.get(page.size() - 1));
+        } while (cursor != null);
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId).reversed())
+                .map(Booking::getId)
+                .toList();
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void filtersCombineAndCountMatchesFilteredRows() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 9, 1, 8, 0);
+        LocalDateTime november = LocalDateTime.of(2025, 11, 12, 13, 0);
+        LocalDateTime december = LocalDateTime.of(2025, 12, 3, 13, 0);
+        saveBooking("pending", "Fentanyl", createdAt, november);
+        saveBooking("pending", "Cannabis", createdAt.plusMinutes(1), november);
+        saveBooking("confirmed", "Fentanyl", createdAt.plusMinutes(2), november);
+        saveBooking("pending", "Fentanyl", createdAt.plusMinutes(3), december);
+
+        BookingSearchCriteria criteria = new BookingSearchCriteria(
+                "pending",
+                LocalDateTime.of(2025, 11, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 1, 0, 0),
+                "Fentanyl"
+        );
+
+        assertThat(bookingRepository.search(criteria, null, 10))
+                .singleElement()
+                .satisfies(booking -> {
+                    assertThat(booking.status()).isEqualTo("pending");
+                    assertThat(booking.presentationType()).isEqualTo("Fentanyl");
+                    assertThat(booking.presentationStart()).isEqualTo(november);
+                });
+        assertThat(bookingRepository.count(criteria)).isEqualTo(1);
+        assertThat(bookingRepository.count(ALL)).isEqualTo(4);
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsGarbage() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2025, 9, 1, 8, 0, 12, 345_000_000), 42L);
+
+        assertThat(BookingCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThatThrownBy(() -> BookingCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Booking saveBooking(String status, String presentationType, LocalDateTime createdAt,
+                                LocalDateTime presentationStart) {
+        Booking booking = new Booking();
+        booking.setName("Teacher");
+        booking.setEmail("teacher@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType(presentationType);
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot");
+        booking.setPresentationStart(presentationStart);
+        booking.setPresentationEnd(presentationStart.plusHours(1));
+        booking.setStatus(status);
+        booking.setCreatedAt(createdAt);
+        return bookingRepository.save(booking);
+    }
+}
@@ -0,0 +1,180 @@
+package com.red.api.datasource;
+
+import com.red.api.changes.ChangeClockRepository;
+import com.red.api.changes.ChangeSequence;
+import com.red.api.config.AppProperties;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between the test's primary H2 database and a second, separately migrated H2 database
+ * standing in for the replica. Replication is simulated by copying the change clock across.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingDataSourceTests {
+
+    private static final String REPLICA = "replica-";
+
+    @Autowired
+    private DataSource primary;
+
+    @Autowired
+    private ChangeClockRepository changeClockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock();
+    private final ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor();
+    private JdbcDataSource replica;
+    private ChangeSequence changeSequence;
+    private ReplicaLagMonitor monitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:" + REPLICA + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(replica)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replicate();
+
+        changeSequence = new ChangeSequence(changeClockRepository);
+        AppProperties.Replica settings = new AppProperties.Replica(
+                replica.getURL(), null, null, 5, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        monitor = new ReplicaLagMonitor(primary, replica, changeSequence, settings, clock);
+        routing = new ReplicaRoutingDataSource(primary, replica, monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.afterCompletion(null, null, null, null);
+        new JdbcTemplate(replica).execute("shutdown");
+    }
+
+    @Test
+    void onlyReplicaReadHandlersOutsideReadWriteTransactionsUseTheReplica() throws Exception {
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        assertThat(target()).isEqualTo("primary");
+
+        beginReplicaRead();
+        assertThat(target()).isEqualTo("replica");
+        String inReadWriteTransaction = new TransactionTemplate(transactionManager).execute(status -> target());
+        assertThat(inReadWriteTransaction).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnThePrimaryUntilTheReplicaHasThisInstancesWrites() throws Exception {
+        monitor.check();
+        beginReplicaRead();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> changeSequence.next());
+        assertThat(target()).isEqualTo("primary");
+
+        monitor.check();
+        assertThat(target()).isEqualTo("primary");
+
+        replicate();
+        monitor.check();
+        assertThat(target()).isEqualTo("replica");
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhileTheReplicaLagsTooFarOrIsDown() throws Exception {
+        monitor.check();
+        beginReplicaRead();
+
+        // A write committed by another instance that has not replicated yet.
+        new JdbcTemplate(primary).update("update change_clock set last_seq = last_seq + 1 where id = 1");
+        monitor.check();
+        assertThat(target()).isEqualTo("replica");
+
+        clock.advance(Duration.ofSeconds(6));
+        monitor.check();
+        assertThat(monitor.lag()).isEqualTo(Duration.ofSeconds(6));
+        assertThat(target()).isEqualTo("primary");
+
+        replicate();
+        monitor.check();
+        assertThat(monitor.lag()).isZero();
+        assertThat(target()).isEqualTo("replica");
+
+        new JdbcTemplate(replica).execute("drop table change_clock");
+        monitor.check();
+        assertThat(target()).isEqualTo("primary");
+    }
+
+    private void beginReplicaRead() throws Exception {
+        HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("replicaReadHandler"));
+        interceptor.preHandle(null, null, handler);
+    }
+
+    @ReplicaRead
+    void replicaReadHandler() {
+    }
+
+    private void replicate() {
+        Long primarySeq = new JdbcTemplate(primary).queryForObject("select last_seq from change_clock where id = 1", Long.class);
+        new JdbcTemplate(replica).update("update change_clock set last_seq = ? where id = 1", primarySeq);
+    }
+
+    private String target() {
+        try (Connection connection = routing.getConnection()) {
+            return connection.getMetaData().getURL().contains(REPLICA) ? "replica" : "primary";
+        } catch (SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-02T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.red.api.idempotency;
+
+import com.red.api.config.AppProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTests {
+
+    private final MutableClock clock = new MutableClock();
+    private final IdempotencyStore store = new IdempotencyStore(
+            new AppProperties.Idempotency(Duration.ofHours(24), 3, Duration.ofSeconds(5)), clock);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store);
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    void retriesGetTheFirstResponseWithoutReachingTheHandler() throws Exception {
+        FilterChain booking = (request, response) -> {
+            int attempt = handled.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(HttpServletResponse.SC_CREATED);
+            http.setHeader("Access-Control-Allow-Origin", "http://localhost:3000");
+            http.setContentType("application/json");
+            http.getWriter().write("{\"attempt\":" + attempt + ",\"request\":" + body + "}");
+        };
+
+        MockHttpServletResponse first = post("/bookings", "key-1", "{\"slotId\":7}", booking);
+        MockHttpServletResponse retry = post("/bookings", "key-1", "{\"slotId\":7}", booking);
+
+        assertThat(handled).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"attempt\":1,\"request\":{\"slotId\":7}}");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getContentType()).isEqualTo("application/json");
+        assertThat(retry.getHeader("Access-Control-Allow-Origin")).isEqualTo("http://localhost:3000");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+
+        assertThat(post("/bookings", "key-1", "{\"slotId\":8}", booking).getStatus()).isEqualTo(422);
+        assertThat(post("/bookings/cancellations/abc", "key-1", "{\"slotId\":7}", booking).getStatus()).isEqualTo(201);
+        assertThat(post("/bookings", null, "{\"slotId\":7}", booking).getStatus()).isEqualTo(201);
+        assertThat(handled).hasValue(3);
+    }
+
+    @Test
+    void conflictsAreReplayedButServerErrorsRunAgain() throws Exception {
+        FilterChain taken = (request, response) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) response).sendError(409, "This slot has already been booked");
+        };
+        post("/bookings", "taken", "{}", taken);
+        MockHttpServletResponse conflict = post("/bookings", "taken", "{}", taken);
+
+        assertThat(handled).hasValue(1);
+        assertThat(conflict.getStatus()).isEqualTo(409);
+        assertThat(conflict.getErrorMessage()).isEqualTo("This slot has already been booked");
+
+        FilterChain failing = (request, response) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        post("/bookings", "failing", "{}", failing);
+        post("/bookings", "failing", "{}", failing);
+
+        assertThat(handled).hasValue(3);
+    }
+
+    @Test
+    void aThrottledAttemptIsNotReplayedToTheRetry() throws Exception {
+        FilterChain throttledOnce = (request, response) -> {
+            HttpServletResponse http = (HttpServletResponse) response;
+            if (handled.incrementAndGet() == 1) {
+                http.setHeader("Retry-After", "10");
+                http.sendError(429, "Too many requests, please try again shortly");
+            } else {
+                http.setStatus(HttpServletResponse.SC_CREATED);
+            }
+        };
+
+        assertThat(post("/bookings", "throttled", "{}", throttledOnce).getStatus()).isEqualTo(429);
+        MockHttpServletResponse retry = post("/bookings", "throttled", "{}", throttledOnce);
+
+        assertThat(handled).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Retry-After")).isNull();
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void aRetryDuringTheFirstAttemptWaitsForItsResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            handled.incrementAndGet();
+            started.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(201);
+            response.getWriter().write("booked");
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> postUnchecked(slow));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(() -> postUnchecked(slow));
+        Thread.sleep(100);
+        finish.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("booked");
+        assertThat(retry.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("booked");
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    void keysExpireAndTheOldestAreDroppedWhenFull() throws Exception {
+        FilterChain ok = (request, response) -> handled.incrementAndGet();
+
+        post("/bookings", "a", "{}", ok);
+        clock.advance(Duration.ofHours(1));
+        post("/bookings", "b", "{}", ok);
+        post("/bookings", "c", "{}", ok);
+        post("/bookings", "d", "{}", ok);
+        assertThat(store.size()).isEqualTo(3);
+
+        post("/bookings", "b", "{}", ok);
+        assertThat(handled).hasValue(4);
+        post("/bookings", "a", "{}", ok);
+        assertThat(handled).hasValue(5);
+
+        clock.advance(Duration.ofHours(24));
+        post("/bookings", "c", "{}", ok);
+        assertThat(handled).hasValue(6);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse post(String path, String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse postUnchecked(FilterChain chain) {
+        try {
+            return post("/bookings", "slow", "{}", chain);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-02T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
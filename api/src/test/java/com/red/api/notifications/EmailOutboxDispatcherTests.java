@@ -0,0 +1,170 @@
+package com.red.api.notifications;
+
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherTests {
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<MimeMessage> sent = Collections.synchronizedList(new ArrayList<>());
+    private SmtpTransportPool transportPool;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        Session session = Session.getInstance(new Properties());
+        transportPool = mock(SmtpTransportPool.class);
+        when(transportPool.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        when(transportPool.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<MimeMessage> batch = invocation.getArgument(0);
+            sent.addAll(batch);
+            return batch.stream().map(message -> MailSendResult.DELIVERED).toList();
+        });
+        dispatcher = new EmailOutboxDispatcher(repository, transportPool, appProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+        repository.deleteAll();
+    }
+
+    @Test
+    void deliversDueMessagesAndMarksThemSent() throws MessagingException {
+        EmailOutboxMessage queued = queue("teacher@example.com");
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).getRecipients(Message.RecipientType.TO))
+                .containsExactly(new InternetAddress("teacher@example.com"));
+        // The copy address gets a digest by default rather than a BCC.
+        assertThat(sent.get(0).getRecipients(Message.RecipientType.BCC)).isNull();
+
+        EmailOutboxMessage delivered = repository.findById(queued.getId()).orElseThrow();
+        assertThat(delivered.getStatus()).isEqualTo("sent");
+        assertThat(delivered.getAttempts()).isEqualTo(1);
+        assertThat(delivered.getSentAt()).isNotNull();
+        assertThat(dispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void bccsTheCopyAddressWhenEveryEmailIsCopied() throws InterruptedException {
+        dispatcher.stop();
+        AppProperties copyEach = appProperties.toBuilder()
+                .mailCopy(new AppProperties.MailCopy(AppProperties.MailCopy.Mode.EACH, "0 0 7 * * *", ZoneId.of("UTC")))
+                .build();
+        dispatcher = new EmailOutboxDispatcher(repository, transportPool, copyEach, meterRegistry);
+        queue("teacher@example.com");
+
+        dispatcher.dispatchBatch();
+
+        assertThat(sent).singleElement().satisfies(message -> assertThat(message.getRecipients(Message.RecipientType.BCC))
+                .containsExactly(new InternetAddress(appProperties.mailCopyAddress())));
+    }
+
+    @Test
+    void retriesWithBackoffAndParksMessageAfterMaxAttempts() {
+        when(transportPool.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<MimeMessage> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(message -> new MailSendResult(new MessagingException("SMTP unavailable")))
+                    .toList();
+        });
+        EmailOutboxMessage queued = queue("teacher@example.com");
+        int maxAttempts = appProperties.mailOutbox().maxAttempts();
+
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            dispatcher.dispatchBatch();
+
+            EmailOutboxMessage failed = repository.findById(queued.getId()).orElseThrow();
+            assertThat(failed.getStatus()).isEqualTo("pending");
+            assertThat(failed.getAttempts()).isEqualTo(attempt);
+            assertThat(failed.getLastError()).contains("SMTP unavailable");
+            assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plus(dispatcher.backoff(attempt)));
+
+            // Not due until the backoff elapses.
+            assertThat(dispatcher.dispatchBatch()).isZero();
+            failed.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+            repository.save(failed);
+        }
+
+        dispatcher.dispatchBatch();
+
+        EmailOutboxMessage dead = repository.findById(queued.getId()).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo("dead");
+        assertThat(dead.getAttempts()).isEqualTo(maxAttempts);
+        assertThat(meterRegistry.get("mail.outbox.deliveries").tag("outcome", "retry").counter().count())
+                .isEqualTo(maxAttempts - 1);
+        assertThat(meterRegistry.get("mail.outbox.deliveries").tag("outcome", "dead").counter().count())
+                .isEqualTo(1);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void backoffDoublesUpToTheConfiguredCeiling() {
+        AppProperties.MailOutbox settings = appProperties.mailOutbox();
+
+        assertThat(dispatcher.backoff(1)).isEqualTo(settings.initialBackoff());
+        assertThat(dispatcher.backoff(2)).isEqualTo(settings.initialBackoff().multipliedBy(2));
+        assertThat(dispatcher.backoff(40)).isEqualTo(settings.maxBackoff());
+    }
+
+    @Test
+    void spreadsABatchAcrossSenderConnections() {
+        int messages = appProperties.mailOutbox().batchSize();
+        for (int i = 0; i < messages; i++) {
+            queue("teacher" + i + "@example.com");
+        }
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(messages);
+
+        assertThat(sent).hasSize(messages);
+        assertThat(repository.findAll()).allSatisfy(message -> assertThat(message.getStatus()).isEqualTo("sent"));
+        verify(transportPool, times(appProperties.mailOutbox().concurrency()))
+                .sendBatch(anyList());
+    }
+
+    private EmailOutboxMessage queue(String recipient) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(recipient);
+        message.setSubject("[RED] Booking request received");
+        message.setBody("Hello");
+        return repository.save(message);
+    }
+}
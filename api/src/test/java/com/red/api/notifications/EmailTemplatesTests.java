@@ -0,0 +1,85 @@
+package com.red.api.notifications;
+
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailTemplatesTests {
+
+    @Test
+    void rendersBundledTextAndEscapedHtml() {
+        EmailTemplates templates = new EmailTemplates(appProperties(null));
+
+        RenderedEmail email = templates.render(EmailTemplates.BOOKING_CONFIRMED, "[RED] Booking confirmed", values());
+
+        assertThat(email.subject()).isEqualTo("[RED] Booking confirmed");
+        assertThat(email.text())
+                .startsWith("Hello Sam <Teacher>,\n")
+                .contains("  • School: Smith & Sons High\n")
+                .contains("https://red.example/cancel?token=abc\n")
+                .doesNotContain("{{");
+        assertThat(email.html())
+                .contains("Hello Sam &lt;Teacher&gt;,")
+                .contains("School: Smith &amp; Sons High")
+                .contains("href=\"https://red.example/cancel?token=abc\"")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void overrideFilesReplaceBundledTemplatesAndReloadWhenChanged(@TempDir Path overrides) throws Exception {
+        Path text = overrides.resolve(EmailTemplates.BOOKING_PENDING + ".txt");
+        Files.writeString(text, "Hi {{greetingName}}");
+        EmailTemplates templates = new EmailTemplates(appProperties(overrides));
+
+        assertThat(render(templates).text()).isEqualTo("Hi Sam <Teacher>");
+        assertThat(render(templates).html()).contains("Thanks for submitting a RED presentation request.");
+
+        Files.writeString(text, "Hey {{greetingName}}");
+        Files.setLastModifiedTime(text, FileTime.from(Instant.now().plusSeconds(5)));
+        assertThat(render(templates).text()).isEqualTo("Hey Sam <Teacher>");
+
+        Files.writeString(text, "Broken {{greetingName");
+        Files.setLastModifiedTime(text, FileTime.from(Instant.now().plusSeconds(10)));
+        assertThat(render(templates).text()).isEqualTo("Hey Sam <Teacher>");
+    }
+
+    @Test
+    void rejectsUnknownPlaceholdersAtParseTime() {
+        assertThatThrownBy(() -> EmailTemplate.parse("Hello {{nickname}}", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nickname");
+    }
+
+    private static RenderedEmail render(EmailTemplates templates) {
+        return templates.render(EmailTemplates.BOOKING_PENDING, "[RED] Booking request received", values());
+    }
+
+    private static Map<EmailField, String> values() {
+        Map<EmailField, String> values = new EnumMap<>(EmailField.class);
+        values.put(EmailField.GREETING_NAME, "Sam <Teacher>");
+        values.put(EmailField.TEACHER, "Sam <Teacher>");
+        values.put(EmailField.SCHOOL, "Smith & Sons High");
+        values.put(EmailField.PRESENTATION, "Fentanyl");
+        values.put(EmailField.LOCATION, "Gym");
+        values.put(EmailField.SLOT, "Wednesday, November 12 at 1:00 p.m.");
+        values.put(EmailField.CANCEL_LINK, "https://red.example/cancel?token=abc");
+        return values;
+    }
+
+    private static AppProperties appProperties(Path overrideDir) {
+        return AppProperties.builder()
+                .mailTemplates(new AppProperties.MailTemplates(overrideDir == null ? null : overrideDir.toString(), Duration.ZERO))
+                .build();
+    }
+}
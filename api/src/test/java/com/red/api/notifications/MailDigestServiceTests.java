@@ -0,0 +1,162 @@
+package com.red.api.notifications;
+
+import com.red.api.availability.Availability;
+import com.red.api.availability.AvailabilityRepository;
+import com.red.api.booking.Booking;
+import com.red.api.booking.BookingRepository;
+import com.red.api.booking.BookingStatusChangedEvent;
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class MailDigestServiceTests {
+
+    @Autowired
+    private MailDigestEventRepository digestEvents;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    private final List<Object> events = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void sendsOneDigestGroupedByStatusAndDayThenStartsOver() {
+        MailDigestService service = service(AppProperties.MailCopy.Mode.DIGEST);
+        Booking first = saveBooking(0);
+        Booking second = saveBooking(1);
+
+        service.onBookingStatusChanged(new BookingStatusChangedEvent(first.getId(), null, "pending"));
+        service.onBookingStatusChanged(new BookingStatusChangedEvent(second.getId(), null, "pending"));
+        clock.advance(Duration.ofDays(1));
+        service.onBookingStatusChanged(new BookingStatusChangedEvent(first.getId(), "pending", "confirmed"));
+        service.onBookingStatusChanged(new BookingStatusChangedEvent(second.getId(), "pending", "cancelled"));
+
+        assertThat(service.sendDigest()).isEqualTo(4);
+
+        List<EmailOutboxMessage> queued = outboxRepository.findAll();
+        assertThat(queued).singleElement().satisfies(message -> {
+            assertThat(message.getRecipient()).isEqualTo(appProperties.mailCopyAddress());
+            assertThat(message.getSubject()).isEqualTo("[RED] Booking digest: 4 updates");
+            assertThat(message.getBody())
+                    .containsSubsequence(
+                            "New requests (2)", "Monday, March 2",
+                            "Teacher " + first.getSlotId() + ", Example School: Fentanyl, Slot " + first.getSlotId(),
+                            "Teacher " + second.getSlotId(),
+                            "Confirmed (1)", "Tuesday, March 3", "Teacher " + first.getSlotId(),
+                            "Cancelled (1)", "Tuesday, March 3", "Teacher " + second.getSlotId(),
+                            "Manage bookings: http://localhost:3000/admin")
+                    .doesNotContain("Rejected");
+            assertThat(message.getHtmlBody())
+                    .containsSubsequence(
+                            "New requests (2)", "<strong>Monday, March 2</strong>",
+                            "<li>Teacher " + first.getSlotId() + ", Example School: Fentanyl, Slot " + first.getSlotId() + "</li>",
+                            "Cancelled (1)", "<li>Teacher " + second.getSlotId(),
+                            "<a href=\"http://localhost:3000/admin\">Manage bookings</a>")
+                    .doesNotContain("{{");
+        });
+        assertThat(events).hasSize(1).first().isInstanceOf(EmailQueuedEvent.class);
+        assertThat(digestEvents.count()).isZero();
+
+        assertThat(service.sendDigest()).isZero();
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsNothingWhenEveryEmailIsCopiedOrCopiesAreOff() {
+        Booking booking = saveBooking(0);
+
+        for (AppProperties.MailCopy.Mode mode : List.of(AppProperties.MailCopy.Mode.EACH, AppProperties.MailCopy.Mode.OFF)) {
+            MailDigestService service = service(mode);
+            service.onBookingStatusChanged(new BookingStatusChangedEvent(booking.getId(), null, "pending"));
+            assertThat(service.sendDigest()).isZero();
+        }
+
+        assertThat(digestEvents.count()).isZero();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private MailDigestService service(AppProperties.MailCopy.Mode mode) {
+        AppProperties properties = appProperties.toBuilder()
+                .mailCopy(new AppProperties.MailCopy(mode, "0 0 7 * * *", ZoneId.of("America/Edmonton")))
+                .build();
+        EmailService emailService = new EmailService(
+                outboxRepository, events::add, properties, new EmailTemplates(properties));
+        return new MailDigestService(
+                digestEvents, bookingRepository, emailService, transactionManager, properties, clock);
+    }
+
+    private Booking saveBooking(int offset) {
+        Availability slot = new Availability();
+        slot.setStart(LocalDateTime.of(2026, 3, 9, 9, 0).plusHours(offset));
+        slot.setEnd(slot.getStart().plusHours(1));
+        slot.setLocation("To be confirmed");
+        slot.setCapacity(30);
+        slot.setStatus("booked");
+        slot.setIsActive(true);
+        slot = availabilityRepository.save(slot);
+
+        Booking booking = new Booking();
+        booking.setName("Teacher " + slot.getId());
+        booking.setEmail("teacher" + slot.getId() + "@example.com");
+        booking.setPhone("403-555-0100");
+        booking.setSchool("Example School");
+        booking.setPresentationType("Fentanyl");
+        booking.setLocation("Room 101");
+        booking.setSlotId(slot.getId());
+        booking.setSlotLabel("Slot " + slot.getId());
+        booking.setPresentationStart(slot.getStart());
+        booking.setPresentationEnd(slot.getEnd());
+        return bookingRepository.save(booking);
+    }
+
+    // 9:00 in Calgary, so one day's activity never straddles midnight there.
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-02T16:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
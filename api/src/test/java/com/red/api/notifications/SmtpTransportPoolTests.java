@@ -0,0 +1,122 @@
+package com.red.api.notifications;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.red.api.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends bursts of status-change emails through {@link SmtpTransportPool} to a local GreenMail
+ * server and checks that they share the pool's connections.
+ */
+class SmtpTransportPoolTests {
+
+    private static final int BURST = 100;
+    private static final int POOL_SIZE = 2;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("red", "secret"))
+            .withPerMethodLifecycle(true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool transportPool;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setUsername("red");
+        mailSender.setPassword("secret");
+        mailSender.getJavaMailProperties().put("mail.smtp.auth", "true");
+
+        AppProperties.MailTransport settings =
+                new AppProperties.MailTransport(POOL_SIZE, Duration.ofSeconds(30), Duration.ofMinutes(5));
+        transportPool = new SmtpTransportPool(mailSender, appProperties(settings), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transportPool.shutdown();
+    }
+
+    @Test
+    void concurrentBatchesDeliverEverythingOverAtMostPoolSizeConnections() throws Exception {
+        List<List<MimeMessage>> batches = new ArrayList<>();
+        for (int worker = 0; worker < POOL_SIZE; worker++) {
+            batches.add(new ArrayList<>());
+        }
+        for (int i = 0; i < BURST; i++) {
+            batches.get(i % POOL_SIZE).add(message(transportPool.createMimeMessage(), i));
+        }
+
+        List<MailSendResult> results = new ArrayList<>();
+        try (ExecutorService workers = Executors.newFixedThreadPool(POOL_SIZE)) {
+            List<Future<List<MailSendResult>>> futures = new ArrayList<>();
+            for (List<MimeMessage> batch : batches) {
+                futures.add(workers.submit(() -> transportPool.sendBatch(batch)));
+            }
+            for (Future<List<MailSendResult>> future : futures) {
+                results.addAll(future.get());
+            }
+        }
+        assertThat(greenMail.waitForIncomingEmail(10_000, BURST)).isTrue();
+
+        assertThat(results).hasSize(BURST).allSatisfy(result -> assertThat(result.delivered()).isTrue());
+        assertThat(meterRegistry.get("mail.smtp.send").tag("outcome", "success").timer().count()).isEqualTo(BURST);
+        assertThat(connectionsOpened()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(meterRegistry.get("mail.smtp.connections.idle").gauge().value()).isEqualTo(connectionsOpened());
+    }
+
+    @Test
+    void reconnectsWhenThePooledConnectionWasDropped() throws Exception {
+        transportPool.sendBatch(List.of(message(transportPool.createMimeMessage(), 1)));
+        greenMail.reset();
+        greenMail.setUser("red", "red", "secret");
+
+        List<MailSendResult> results = transportPool.sendBatch(List.of(message(transportPool.createMimeMessage(), 2)));
+
+        assertThat(results).singleElement().satisfies(result -> assertThat(result.delivered()).isTrue());
+        assertThat(connectionsOpened()).isEqualTo(2);
+    }
+
+    private double connectionsOpened() {
+        return meterRegistry.get("mail.smtp.connections.opened").counter().count();
+    }
+
+    private static MimeMessage message(MimeMessage mimeMessage, int index) throws MessagingException {
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        helper.setFrom("bookings@red.example");
+        helper.setTo("teacher" + index + "@school.example");
+        helper.setSubject("[RED] Booking confirmed");
+        helper.setText("Great news — your RED presentation request has been confirmed.");
+        return mimeMessage;
+    }
+
+    private static AppProperties appProperties(AppProperties.MailTransport settings) {
+        return AppProperties.builder()
+                .availability(new AppProperties.AvailabilityOptions(Duration.ofSeconds(60), 42, 93, 500))
+                .mailTransport(settings)
+                .build();
+    }
+}
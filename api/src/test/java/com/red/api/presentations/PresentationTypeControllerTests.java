@@ -0,0 +1,104 @@
+package com.red.api.presentations;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PresentationTypeControllerTests {
+
+    @Autowired
+    private PresentationTypeRepo repo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PresentationTypeCatalog catalog;
+    private PresentationTypeController controller;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new PresentationTypeCatalog(repo, JsonMapper.builder().findAndAddModules().build());
+        controller = new PresentationTypeController(
+                repo, catalog, event -> catalog.onPresentationTypeChanged((PresentationTypeChangedEvent) event));
+
+        save("Fentanyl", 4, 12, true);
+        save("Cannabis", 7, 12, true);
+        save("Vaping", null, 6, true);
+        save("Alcohol", 4, 12, false);
+    }
+
+    @Test
+    void repeatViewsAreServedFromMemoryWithCachingHeaders() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        ResponseEntity<byte[]> first = controller.list(false, null, null);
+        statistics.clear();
+        ResponseEntity<byte[]> second = controller.list(false, null, null);
+        ResponseEntity<byte[]> revalidated = controller.list(false, null, first.getHeaders().getETag());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(first.getHeaders().getETag()).isNotBlank();
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(revalidated.getBody()).isNull();
+        assertThat(body(first)).contains("Fentanyl", "Cannabis", "Vaping", "Alcohol");
+    }
+
+    @Test
+    void activeAndGradeFiltersNarrowTheCatalogue() {
+        assertThat(body(controller.list(true, null, null)))
+                .contains("Fentanyl", "Cannabis", "Vaping")
+                .doesNotContain("Alcohol");
+        assertThat(body(controller.list(true, 5, null)))
+                .contains("Fentanyl", "Vaping")
+                .doesNotContain("Cannabis", "Alcohol");
+        assertThat(body(controller.list(false, 0, null)))
+                .contains("Vaping")
+                .doesNotContain("Fentanyl");
+        assertThatThrownBy(() -> controller.list(false, 13, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void creatingATypeInvalidatesTheCachedCatalogue() {
+        ResponseEntity<byte[]> before = controller.list(true, null, null);
+
+        controller.create(new PresentationTypeController.CreatePT("Opioids", 60, null, 9, 12));
+        ResponseEntity<byte[]> after = controller.list(true, null, before.getHeaders().getETag());
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(body(after)).contains("Opioids");
+    }
+
+    private void save(String name, Integer gradeMin, Integer gradeMax, boolean active) {
+        PresentationType type = new PresentationType();
+        type.setName(name);
+        type.setDurationMin(60);
+        type.setGradeMin(gradeMin);
+        type.setGradeMax(gradeMax);
+        type.setIsActive(active);
+        repo.save(type);
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+}
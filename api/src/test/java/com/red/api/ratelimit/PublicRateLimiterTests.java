@@ -0,0 +1,162 @@
+package com.red.api.ratelimit;
+
+import com.red.api.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicRateLimiterTests {
+
+    private static final String TEACHER = "203.0.113.10";
+    private static final String SCRIPT = "198.51.100.7";
+
+    private final MutableClock clock = new MutableClock();
+    // 6 bookings a minute with a burst of 5; 2 requests in flight at most.
+    private final PublicRateLimiter limiter = new PublicRateLimiter(
+            new AppProperties.RateLimit(true, 2, 600, 60, 6, 5, 12, 10, 100), clock);
+    private final PublicRateLimitInterceptor interceptor = new PublicRateLimitInterceptor(limiter);
+
+    @Test
+    void eachClientAndRouteHasItsOwnBucketThatRefillsOverTime() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER)).isZero();
+        }
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER)).isEqualTo(Duration.ofSeconds(10));
+
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, SCRIPT)).isZero();
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.AVAILABILITY, TEACHER)).isZero();
+
+        clock.advance(Duration.ofSeconds(4));
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER)).isEqualTo(Duration.ofSeconds(6));
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER)).isZero();
+        assertThat(limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER)).isPositive();
+    }
+
+    @Test
+    void concurrentCallersNeverGetMoreThanTheBurst() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        List<Future<?>> callers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire(PublicRateLimiter.Route.AVAILABILITY, TEACHER).isZero()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> caller : callers) {
+                caller.get();
+            }
+        }
+
+        assertThat(granted).hasValue(60);
+    }
+
+    @Test
+    void rejectionsCarryRetryAfterAndAdmittedRequestsReleaseTheirSlot() throws Exception {
+        MockHttpServletRequest first = request("/availability", TEACHER);
+        MockHttpServletRequest second = request("/bookings", SCRIPT);
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(second, new MockHttpServletResponse(), null)).isTrue();
+
+        MockHttpServletResponse busy = new MockHttpServletResponse();
+        assertThatThrownBy(() -> interceptor.preHandle(request("/bookings/cancellations/abc", TEACHER), busy, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(busy.getHeader("Retry-After")).isEqualTo("1");
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        MockHttpServletRequest third = request("/bookings", SCRIPT);
+        assertThat(interceptor.preHandle(third, new MockHttpServletResponse(), null)).isTrue();
+        interceptor.afterCompletion(second, new MockHttpServletResponse(), null, null);
+        interceptor.afterCompletion(third, new MockHttpServletResponse(), null, null);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest booking = request("/bookings", SCRIPT);
+            interceptor.preHandle(booking, new MockHttpServletResponse(), null);
+            interceptor.afterCompletion(booking, new MockHttpServletResponse(), null, null);
+        }
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+        assertThatThrownBy(() -> interceptor.preHandle(request("/bookings", SCRIPT), limited, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("10");
+
+        MockHttpServletRequest preflight = request("/bookings", SCRIPT);
+        preflight.setMethod("OPTIONS");
+        assertThat(interceptor.preHandle(preflight, new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    @Test
+    void refilledBucketsAreSweptAndTheMapIsBounded() {
+        limiter.tryAcquire(PublicRateLimiter.Route.BOOKINGS, TEACHER);
+        limiter.tryAcquire(PublicRateLimiter.Route.AVAILABILITY, SCRIPT);
+        limiter.sweep();
+        assertThat(limiter.bucketCount()).isEqualTo(2);
+
+        clock.advance(Duration.ofSeconds(10));
+        limiter.sweep();
+        assertThat(limiter.bucketCount()).isZero();
+
+        for (int i = 0; i < 150; i++) {
+            limiter.tryAcquire(PublicRateLimiter.Route.AVAILABILITY, "10.0.0." + i);
+        }
+        assertThat(limiter.bucketCount()).isLessThanOrEqualTo(100);
+    }
+
+    private static MockHttpServletRequest request(String path, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(client);
+        return request;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-02T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# Builds the API image and reports time to first request for a plain start and for the image's
+# cold-start mode (AppCDS archive + AOT bean definitions + lazy initialization), each against a
+# fresh Postgres. Run from the repository root: docker/measure-startup.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-3}
+IMAGE=red-api:startup
+NETWORK=red-startup-$$
+PORT=${PORT:-18080}
+
+cleanup() {
+  docker rm -f red-startup-api red-startup-db >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker build -q -t "$IMAGE" -f docker/Dockerfile.api . >/dev/null
+docker network create "$NETWORK" >/dev/null
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local mode=$1
+  shift
+
+  docker rm -f red-startup-db >/dev/null 2>&1 || true
+  docker run -d --name red-startup-db --network "$NETWORK" \
+    -e POSTGRES_DB=red -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres \
+    postgres:16-alpine >/dev/null
+  until docker exec red-startup-db pg_isready -q -U postgres -d red; do sleep 0.2; done
+
+  local start
+  start=$(now_ms)
+  docker run -d --name red-startup-api --network "$NETWORK" -p "$PORT:8080" \
+    -e SPRING_PROFILES_ACTIVE=prod \
+    -e SPRING_DATASOURCE_URL=jdbc:postgresql://red-startup-db:5432/red \
+    -e SPRING_DATASOURCE_USERNAME=postgres \
+    -e SPRING_DATASOURCE_PASSWORD=postgres \
+    -e SPRING_MAIL_USERNAME=startup \
+    -e SPRING_MAIL_PASSWORD=startup \
+    -e APP_FRONTEND_BASE_URL=http://localhost:3000 \
+    -e APP_MAIL_FROM_ADDRESS=startup@example.com \
+    -e APP_MAIL_COPY_ADDRESS=startup@example.com \
+    -e APP_ADMIN_USERNAME=admin \
+    -e APP_ADMIN_PASSWORD=startup \
+    -e APP_ADMIN_TOKEN_SECRET=measure-startup-secret-0123456789abcdef \
+    "$@" "$IMAGE" >/dev/null
+  until curl -sf -o /dev/null "http://localhost:$PORT/availability"; do sleep 0.05; done
+  local wall=$(( $(now_ms) - start ))
+
+  local jvm
+  jvm=$(docker logs red-startup-api 2>&1 | sed -n 's/.*completed \([0-9]*\) ms after JVM start.*/\1/p' | head -1)
+  printf '%-8s first request %6d ms after docker run, %6s ms after JVM start\n' "$mode" "$wall" "$jvm"
+  docker rm -f red-startup-api red-startup-db >/dev/null
+}
+
+for run in $(seq "$RUNS"); do
+  measure plain -e JAVA_OPTS= -e SPRING_MAIN_LAZY_INITIALIZATION=false
+  measure startup
+done
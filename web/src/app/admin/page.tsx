@@ -1,6 +1,6 @@
 "use client";
 
-import { FormEvent, useCallback, useEffect, useMemo, useState } from "react";
+import { FormEvent, useCallback, useEffect, useState } from "react";
 import { useRouter } from "next/navigation";
 
 import { ADMIN_ENDPOINT } from "@/lib/apiConfig";
@@ -24,6 +24,12 @@ type Booking = {
   slotLabel?: string | null;
 };
 
+type BookingPage = {
+  items: Booking[];
+  nextCursor: string | null;
+  total?: number | null;
+};
+
 type Availability = {
   id: number;
   start: string;
@@ -34,6 +40,10 @@ type Availability = {
   isActive: boolean;
 };
 
+type AvailabilityChange = Availability & {
+  booking?: { id: number; status: string } | null;
+};
+
 type NewSlotForm = {
   start: string;
   end: string;
@@ -41,6 +51,20 @@ type NewSlotForm = {
 };
 
 const BOOKING_STATUSES = ["all", "pending", "confirmed", "rejected", "cancelled"] as const;
+const BOOKINGS_PAGE_SIZE = 50;
+
+function bookingsUrl(status: (typeof BOOKING_STATUSES)[number], cursor?: string | null) {
+  const params = new URLSearchParams({ limit: String(BOOKINGS_PAGE_SIZE) });
+  if (status !== "all") {
+    params.set("status", status);
+  }
+  if (cursor) {
+    params.set("cursor", cursor);
+  } else {
+    params.set("includeTotal", "true");
+  }
+  return `${ADMIN_ENDPOINT}/bookings?${params.toString()}`;
+}
 
 export default function AdminDashboardPage() {
   const router = useRouter();
@@ -48,6 +72,9 @@ export default function AdminDashboardPage() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [bookings, setBookings] = useState<Booking[]>([]);
+  const [bookingsCursor, setBookingsCursor] = useState<string | null>(null);
+  const [bookingsTotal, setBookingsTotal] = useState<number | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [availability, setAvailability] = useState<Availability[]>([]);
   const [selectedStatus, setSelectedStatus] = useState<(typeof BOOKING_STATUSES)[number]>("all");
   const [actionMessage, setActionMessage] = useState<string | null>(null);
@@ -77,7 +104,7 @@ export default function AdminDashboardPage() {
 
     try {
       const [bookingsResponse, availabilityResponse] = await Promise.all([
-        fetch(`${ADMIN_ENDPOINT}/bookings`, {
+        fetch(bookingsUrl(selectedStatus), {
           headers: {
             "Content-Type": "application/json",
             ...adminAuthHeaders(),
@@ -103,10 +130,12 @@ export default function AdminDashboardPage() {
         throw new Error("Failed to load admin data");
       }
 
-      const bookingsPayload = (await bookingsResponse.json()) as Booking[];
+      const bookingsPayload = (await bookingsResponse.json()) as BookingPage;
       const availabilityPayload = (await availabilityResponse.json()) as Availability[];
 
-      setBookings(bookingsPayload);
+      setBookings(bookingsPayload.items);
+      setBookingsCursor(bookingsPayload.nextCursor);
+      setBookingsTotal(bookingsPayload.total ?? null);
       setAvailability(availabilityPayload);
       setLoading(false);
     } catch (fetchError) {
@@ -114,7 +143,7 @@ export default function AdminDashboardPage() {
       setError("Unable to load admin data. Please refresh or sign in again.");
       setLoading(false);
     }
-  }, [router]);
+  }, [router, selectedStatus]);
 
   useEffect(() => {
     if (tokenChecked) {
@@ -122,12 +151,124 @@ export default function AdminDashboardPage() {
     }
   }, [tokenChecked, loadData]);
 
-  const filteredBookings = useMemo(() => {
-    if (selectedStatus === "all") {
-      return bookings;
+  useEffect(() => {
+    const token = getAdminToken();
+    if (!tokenChecked || !token || typeof EventSource === "undefined") {
+      return;
     }
-    return bookings.filter((booking) => booking.status === selectedStatus);
-  }, [bookings, selectedStatus]);
+
+    let source: EventSource | null = null;
+    let retry: ReturnType<typeof setTimeout> | undefined;
+    let closed = false;
+
+    const onSlots = (message: MessageEvent<string>) => {
+      let changes: AvailabilityChange[];
+      try {
+        changes = JSON.parse(message.data) as AvailabilityChange[];
+      } catch (parseError) {
+        console.warn("Availability stream sent invalid JSON", parseError);
+        return;
+      }
+
+      setAvailability((current) => {
+        const byId = new Map(current.map((slot) => [slot.id, slot]));
+        changes.forEach((slot) => byId.set(slot.id, slot));
+        return Array.from(byId.values());
+      });
+
+      const bookingStatuses = new Map(
+        changes
+          .filter((change) => change.booking)
+          .map((change) => [change.booking!.id, change.booking!.status]),
+      );
+      if (bookingStatuses.size > 0) {
+        setBookings((current) =>
+          current.map((booking) =>
+            bookingStatuses.has(booking.id)
+              ? { ...booking, status: bookingStatuses.get(booking.id)! }
+              : booking,
+          ),
+        );
+      }
+    };
+
+    // EventSource cannot send the admin header, so the stream is opened with a short-lived,
+    // stream-only ticket. A reconnect after the ticket expires is refused, so fetch a new one.
+    const connect = async () => {
+      try {
+        const response = await fetch(`${ADMIN_ENDPOINT}/auth/stream-ticket`, {
+          method: "POST",
+          headers: adminAuthHeaders(),
+          cache: "no-store",
+        });
+        if (!response.ok) {
+          throw new Error(`Stream ticket request failed with ${response.status}`);
+        }
+        const { ticket } = (await response.json()) as { ticket: string };
+        if (closed) {
+          return;
+        }
+
+        source = new EventSource(
+          `${ADMIN_ENDPOINT}/availability/stream?${new URLSearchParams({ ticket }).toString()}`,
+        );
+        source.addEventListener("slots", onSlots as EventListener);
+        source.onerror = () => {
+          if (source?.readyState === EventSource.CLOSED && !closed) {
+            retry = setTimeout(() => void connect(), 5000);
+          }
+        };
+      } catch (streamError) {
+        console.warn("Unable to open the availability stream", streamError);
+        if (!closed) {
+          retry = setTimeout(() => void connect(), 30000);
+        }
+      }
+    };
+    void connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(retry);
+      source?.close();
+    };
+  }, [tokenChecked]);
+
+  const loadMoreBookings = useCallback(async () => {
+    if (!bookingsCursor) {
+      return;
+    }
+
+    setLoadingMore(true);
+    try {
+      const response = await fetch(bookingsUrl(selectedStatus, bookingsCursor), {
+        headers: {
+          "Content-Type": "application/json",
+          ...adminAuthHeaders(),
+        },
+        cache: "no-store",
+      });
+
+      if (response.status === 401) {
+        clearAdminToken();
+        router.replace("/login");
+        return;
+      }
+
+      if (!response.ok) {
+        throw new Error("Failed to load more bookings");
+      }
+
+      const page = (await response.json()) as BookingPage;
+      setBookings((previous) => [...previous, ...page.items]);
+      setBookingsCursor(page.nextCursor);
+    } catch (fetchError) {
+      console.error(fetchError);
+      setActionMessage("Could not load more bookings. Please try again.");
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [bookingsCursor, router, selectedStatus]);
 
   const handleStatusChange = useCallback(async (bookingId: number, status: string) => {
     setActionMessage(null);
@@ -292,11 +433,11 @@ export default function AdminDashboardPage() {
 
         {loading ? (
           <p className="mt-6 text-sm text-slate-600">Loading bookings…</p>
-        ) : filteredBookings.length === 0 ? (
+        ) : bookings.length === 0 ? (
           <p className="mt-6 text-sm text-slate-600">No bookings found for this filter.</p>
         ) : (
           <div className="mt-6 divide-y divide-slate-200">
-            {filteredBookings.map((booking) => (
+            {bookings.map((booking) => (
               <article key={booking.id} className="space-y-4 py-5">
                 <header className="flex flex-col gap-2 md:flex-row md:items-center md:justify-between">
                   <div>
@@ -372,6 +513,26 @@ export default function AdminDashboardPage() {
             ))}
           </div>
         )}
+
+        {!loading && bookings.length > 0 ? (
+          <div className="mt-6 flex flex-col items-center gap-3 text-sm text-slate-600">
+            {bookingsTotal !== null ? (
+              <p>
+                Showing {bookings.length} of {bookingsTotal} bookings
+              </p>
+            ) : null}
+            {bookingsCursor ? (
+              <button
+                type="button"
+                onClick={() => void loadMoreBookings()}
+                disabled={loadingMore}
+                className="rounded-full border border-slate-300 px-5 py-2 text-sm font-semibold text-slate-600 transition hover:bg-slate-100 disabled:cursor-not-allowed disabled:opacity-60"
+              >
+                {loadingMore ? "Loading…" : "Load more"}
+              </button>
+            ) : null}
+          </div>
+        ) : null}
       </section>
 
       <section className="rounded-3xl border border-red-100 bg-white px-6 py-8 shadow-sm md:px-10">
@@ -1,6 +1,6 @@
 "use client";
 
-import { Suspense, useCallback, useEffect, useMemo, useState } from "react";
+import { Suspense, useCallback, useEffect, useMemo, useRef, useState } from "react";
 import Link from "next/link";
 import { useSearchParams } from "next/navigation";
 
@@ -61,6 +61,8 @@ function CancelPageContent() {
   const [error, setError] = useState<string | null>(null);
   const [submitting, setSubmitting] = useState(false);
   const [submissionMessage, setSubmissionMessage] = useState<string | null>(null);
+  // One key per visit, so retrying a cancellation that timed out replays the first result.
+  const idempotencyKey = useRef<string | null>(null);
 
   const canCancel = useMemo(() => {
     if (!details) return false;
@@ -122,10 +124,12 @@ function CancelPageContent() {
     setSubmissionMessage(null);
 
     try {
+      idempotencyKey.current ??= crypto.randomUUID();
       const response = await fetch(`${BOOKINGS_ENDPOINT}/cancellations/${token}`, {
         method: "POST",
         headers: {
           "Content-Type": "application/json",
+          "Idempotency-Key": idempotencyKey.current,
         },
       });
 
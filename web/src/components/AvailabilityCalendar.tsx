@@ -1,9 +1,14 @@
 "use client";
 
-import { useCallback, useEffect, useMemo, useState } from "react";
+import { useCallback, useEffect, useMemo, useRef, useState } from "react";
 import dynamic from "next/dynamic";
 import Link from "next/link";
-import type { EventClickArg, EventInput, EventSourceInput } from "@fullcalendar/core/index.js";
+import type {
+  DatesSetArg,
+  EventClickArg,
+  EventInput,
+  EventSourceInput,
+} from "@fullcalendar/core/index.js";
 import dayGridPlugin from "@fullcalendar/daygrid";
 import interactionPlugin from "@fullcalendar/interaction";
 import timeGridPlugin from "@fullcalendar/timegrid";
@@ -61,6 +66,11 @@ type BookingDetails = {
 
 type FetchState = "idle" | "loading" | "loaded" | "error";
 
+type VisibleRange = {
+  from: string;
+  to: string;
+};
+
 type FullCalendarComponent = typeof import("@fullcalendar/react")["default"];
 
 const FullCalendar = dynamic(
@@ -101,6 +111,18 @@ const longDateTimeFormatter = new Intl.DateTimeFormat(CALENDAR_LOCALE, {
   minute: "2-digit",
 });
 
+function toIsoDate(date: Date): string {
+  const year = date.getFullYear();
+  const month = String(date.getMonth() + 1).padStart(2, "0");
+  const day = String(date.getDate()).padStart(2, "0");
+  return `${year}-${month}-${day}`;
+}
+
+function availabilityUrl(range: VisibleRange): string {
+  const params = new URLSearchParams({ from: range.from, to: range.to });
+  return `${AVAILABILITY_ENDPOINT}?${params.toString()}`;
+}
+
 type SlotTimeParts = {
   time: string;
   meridiem?: string;
@@ -213,6 +235,36 @@ function formatSelectedSlot(startISO: string, endISO?: string) {
   return `${dateFormatter.format(startDate)} · ${timeFormatter.format(startDate)}`;
 }
 
+function isInRange(event: CalendarEvent, range: VisibleRange | null): boolean {
+  const day = event.start.slice(0, 10);
+  return range !== null && day >= range.from && day <= range.to;
+}
+
+// Applies slots pushed by the availability stream: changed slots replace their old version, and
+// slots that were disabled or fall outside the visible range drop out.
+function mergeSlotChanges(
+  current: CalendarEvent[],
+  changed: RawAvailabilitySlot[],
+  range: VisibleRange | null,
+): CalendarEvent[] {
+  const byId = new Map(current.map((event) => [event.id, event]));
+
+  changed.forEach((slot, index) => {
+    const event = toCalendarEvent(slot, index);
+    if (!event) {
+      return;
+    }
+
+    if (slot.isActive === false || !isInRange(event, range)) {
+      byId.delete(event.id);
+    } else {
+      byId.set(event.id, event);
+    }
+  });
+
+  return Array.from(byId.values()).sort((a, b) => a.start.localeCompare(b.start));
+}
+
 function normalisePayload(payload: unknown): RawAvailabilitySlot[] {
   if (Array.isArray(payload)) {
     return payload as RawAvailabilitySlot[];
@@ -372,14 +424,16 @@ export default function AvailabilityCalendar() {
   const [errorMessage, setErrorMessage] = useState<string | null>(null);
   const [selectionNotice, setSelectionNotice] = useState<string | null>(null);
   const [lastUpdated, setLastUpdated] = useState<Date | null>(null);
+  const [visibleRange, setVisibleRange] = useState<VisibleRange | null>(null);
+  const visibleRangeRef = useRef<VisibleRange | null>(null);
 
   const fetchAvailability = useCallback(
-    async (signal?: AbortSignal) => {
+    async (range: VisibleRange, signal?: AbortSignal) => {
       setState("loading");
       setErrorMessage(null);
 
       try {
-        const response = await fetch(AVAILABILITY_ENDPOINT, { signal });
+        const response = await fetch(availabilityUrl(range), { signal });
 
         if (!response.ok) {
           throw new Error(`Request failed with status ${response.status}`);
@@ -415,7 +469,7 @@ export default function AvailabilityCalendar() {
         setSelectionNotice(
           hasBookableSlots
             ? null
-            : "All presentation windows are currently booked. Please check back soon or reach out by email.",
+            : "All presentation windows in this view are currently booked. Try another month or reach out by email.",
         );
 
         setSelectedEventId((currentId) => {
@@ -445,12 +499,62 @@ export default function AvailabilityCalendar() {
   );
 
   useEffect(() => {
+    if (!visibleRange) {
+      return;
+    }
+
+    visibleRangeRef.current = visibleRange;
     const controller = new AbortController();
-    fetchAvailability(controller.signal);
+    fetchAvailability(visibleRange, controller.signal);
 
     return () => controller.abort();
+  }, [fetchAvailability, visibleRange]);
+
+  useEffect(() => {
+    if (typeof EventSource === "undefined") {
+      return;
+    }
+
+    // Slot changes are pushed as they commit, so an open calendar stays current without polling.
+    const source = new EventSource(`${AVAILABILITY_ENDPOINT}/stream`);
+    let connectedBefore = false;
+
+    source.onopen = () => {
+      // Changes made while disconnected were missed; reload the view once the stream is back.
+      if (connectedBefore && visibleRangeRef.current) {
+        fetchAvailability(visibleRangeRef.current);
+      }
+      connectedBefore = true;
+    };
+
+    source.addEventListener("slots", (message) => {
+      let changed: RawAvailabilitySlot[];
+      try {
+        changed = normalisePayload(JSON.parse((message as MessageEvent<string>).data));
+      } catch (parseError) {
+        console.warn("Availability stream sent invalid JSON", parseError);
+        return;
+      }
+
+      setEvents((current) => mergeSlotChanges(current, changed, visibleRangeRef.current));
+      setLastUpdated(new Date());
+    });
+
+    return () => source.close();
   }, [fetchAvailability]);
 
+  const handleDatesSet = useCallback((arg: DatesSetArg) => {
+    // FullCalendar's end is exclusive; the API takes inclusive dates.
+    const lastVisibleDay = new Date(arg.end);
+    lastVisibleDay.setDate(lastVisibleDay.getDate() - 1);
+    const from = toIsoDate(arg.start);
+    const to = toIsoDate(lastVisibleDay);
+
+    setVisibleRange((current) =>
+      current && current.from === from && current.to === to ? current : { from, to },
+    );
+  }, []);
+
   const handleEventClick = useCallback(
     (eventClickInfo: EventClickArg) => {
       eventClickInfo.jsEvent.preventDefault();
@@ -559,6 +663,7 @@ export default function AvailabilityCalendar() {
             initialView="dayGridMonth"
             height="auto"
             events={calendarEvents}
+            datesSet={handleDatesSet}
             eventClick={handleEventClick}
             selectable={false}
             eventDisplay="block"
@@ -629,9 +734,9 @@ export default function AvailabilityCalendar() {
           </span>
           <button
             type="button"
-            onClick={() => fetchAvailability()}
+            onClick={() => visibleRange && fetchAvailability(visibleRange)}
             className="rounded-full border border-red-200 px-3 py-1.5 font-medium text-red-700 transition hover:bg-red-50"
-            disabled={state === "loading"}
+            disabled={state === "loading" || !visibleRange}
           >
             {state === "loading" ? "Refreshing…" : "Refresh availability"}
           </button>
@@ -1,6 +1,6 @@
 "use client";
 
-import { useState, FormEvent } from "react";
+import { useRef, useState, FormEvent } from "react";
 
 import { BOOKINGS_ENDPOINT } from "@/lib/apiConfig";
 
@@ -42,6 +42,9 @@ export default function BookingForm({ selectedSlotId, selectedSlotLabel }: Booki
   const [submitting, setSubmitting] = useState(false);
   const [submitStatus, setSubmitStatus] = useState<"idle" | "success" | "error">("idle");
   const [errorMessage, setErrorMessage] = useState<string | null>(null);
+  // Resubmitting the same request after a timeout reuses its key, so the API replays the first
+  // outcome instead of booking (and emailing) twice. Any edit to the form starts a new request.
+  const idempotency = useRef<{ payload: string; key: string } | null>(null);
 
   const handleChange = (
     e: React.ChangeEvent<HTMLInputElement | HTMLTextAreaElement | HTMLSelectElement>
@@ -71,28 +74,46 @@ export default function BookingForm({ selectedSlotId, selectedSlotLabel }: Booki
       return;
     }
 
+    const payload = JSON.stringify({
+      name: formData.name,
+      email: formData.email,
+      phone: formData.phone,
+      school: formData.school,
+      presentationType: formData.presentationType,
+      location: formData.location,
+      extraNotes: formData.extraNotes,
+      slotId: slotIdValue,
+    });
+    if (idempotency.current?.payload !== payload) {
+      idempotency.current = { payload, key: crypto.randomUUID() };
+    }
+
     try {
       const response = await fetch(BOOKINGS_ENDPOINT, {
         method: "POST",
         headers: {
           "Content-Type": "application/json",
+          "Idempotency-Key": idempotency.current.key,
         },
-        body: JSON.stringify({
-          name: formData.name,
-          email: formData.email,
-          phone: formData.phone,
-          school: formData.school,
-          presentationType: formData.presentationType,
-          location: formData.location,
-          extraNotes: formData.extraNotes,
-          slotId: slotIdValue,
-        }),
+        body: payload,
       });
 
+      if (response.status === 429 || response.status === 503) {
+        const retryAfter = Number.parseInt(response.headers.get("Retry-After") ?? "", 10);
+        setErrorMessage(
+          `We're receiving a lot of booking requests right now. Please try again in ${
+            Number.isNaN(retryAfter) ? "a few" : retryAfter
+          } seconds.`
+        );
+        setSubmitStatus("error");
+        return;
+      }
+
       if (!response.ok) {
         throw new Error(`Request failed with status ${response.status}`);
       }
 
+      idempotency.current = null;
       setSubmitStatus("success");
       setFormData({
         name: "",